@@ -0,0 +1,175 @@
+package base;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AdaptiveTimeouts - Explicit wait timeouts learned from observed wait times
+ *
+ * Every BasePage wait reports how long it took, keyed by locator (or named
+ * wait) and environment. Once a key has enough samples its timeout becomes
+ * p95 x timeout.adaptive.factor + timeout.adaptive.margin.ms, clamped between
+ * timeout.adaptive.min.ms and timeout.explicit, and is the wait's deadline;
+ * keys with fewer than timeout.adaptive.min.samples samples wait up to
+ * timeout.explicit. A timeout drops the key's earlier samples and keeps the
+ * timed-out duration, so the key waits up to timeout.explicit again until it
+ * has relearned, this time including the slow wait.
+ *
+ * Samples are persisted to timeout.adaptive.file at suite end and reloaded
+ * on the next run. Off by default: with timeout.adaptive=false every wait
+ * uses timeout.explicit.
+ */
+public final class AdaptiveTimeouts {
+
+    private static final int MAX_SAMPLES = 100;
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final Map<String, Deque<Long>> samplesByKey = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    private AdaptiveTimeouts() {
+    }
+
+    /**
+     * Timeout for the next wait on a key
+     */
+    public static Duration timeoutFor(String key) {
+        Duration max = maxTimeout();
+        if (!isEnabled()) {
+            return max;
+        }
+        List<Long> samples = snapshot(key);
+        if (samples.size() < ConfigReader.getIntProperty("timeout.adaptive.min.samples", 5)) {
+            return max;
+        }
+
+        Collections.sort(samples);
+        long p95 = samples.get(Math.max(0, (int) Math.ceil(0.95 * samples.size()) - 1));
+        double factor = Double.parseDouble(ConfigReader.getProperty("timeout.adaptive.factor", "2.0"));
+        long adaptiveMs = (long) (p95 * factor) + ConfigReader.getIntProperty("timeout.adaptive.margin.ms", 500);
+        long minMs = ConfigReader.getIntProperty("timeout.adaptive.min.ms", 3000);
+        return Duration.ofMillis(Math.max(minMs, Math.min(adaptiveMs, max.toMillis())));
+    }
+
+    /**
+     * Upper bound of every wait (timeout.explicit)
+     */
+    public static Duration maxTimeout() {
+        return Duration.ofSeconds(ConfigReader.getIntProperty("timeout.explicit", 8));
+    }
+
+    /**
+     * Record how long a successful wait took
+     */
+    public static void record(String key, long elapsedMs) {
+        if (!isEnabled()) {
+            return;
+        }
+        Deque<Long> samples = samplesByKey.computeIfAbsent(environmentKey(key), k -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.addLast(elapsedMs);
+            if (samples.size() > MAX_SAMPLES) {
+                samples.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Record a wait that timed out - widens the key's next timeout
+     */
+    public static void recordTimeout(String key, Duration timeout) {
+        LoggerUtil.debug("Wait timed out after " + timeout.toMillis() + "ms for: " + key);
+        if (!isEnabled()) {
+            return;
+        }
+        Deque<Long> samples = samplesByKey.computeIfAbsent(environmentKey(key), k -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.clear();
+            samples.addLast(timeout.toMillis());
+        }
+    }
+
+    // ===================================
+    // PERSISTENCE
+    // ===================================
+
+    /**
+     * Write samples of all keys to timeout.adaptive.file
+     */
+    public static void save() {
+        if (!isEnabled() || samplesByKey.isEmpty()) {
+            return;
+        }
+        Map<String, List<Long>> snapshot = new TreeMap<>();
+        samplesByKey.forEach((key, samples) -> {
+            synchronized (samples) {
+                snapshot.put(key, new ArrayList<>(samples));
+            }
+        });
+        Path file = samplesFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), snapshot);
+            LoggerUtil.info("Adaptive timeout samples saved for " + snapshot.size() + " waits: " + file);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to save adaptive timeout samples", e);
+        }
+    }
+
+    private static synchronized void loadOnce() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        Path file = samplesFile();
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            Map<String, List<Long>> stored = mapper.readValue(file.toFile(), new TypeReference<Map<String, List<Long>>>() {});
+            stored.forEach((key, samples) -> samplesByKey.putIfAbsent(key, new ArrayDeque<>(samples)));
+            LoggerUtil.info("Loaded adaptive timeout samples for " + stored.size() + " waits from: " + file);
+        } catch (IOException e) {
+            LoggerUtil.warn("Ignoring unreadable adaptive timeout samples: " + file + " - " + e.getMessage());
+        }
+    }
+
+    private static List<Long> snapshot(String key) {
+        Deque<Long> samples = samplesByKey.get(environmentKey(key));
+        if (samples == null) {
+            return new ArrayList<>();
+        }
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    private static String environmentKey(String key) {
+        loadOnce();
+        return ConfigReader.getEnvironment() + "|" + key;
+    }
+
+    private static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("timeout.adaptive", false);
+    }
+
+    private static Path samplesFile() {
+        return Paths.get(ConfigReader.getProperty("timeout.adaptive.file", "target/adaptive-timeouts.json"));
+    }
+}
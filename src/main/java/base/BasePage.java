@@ -1,47 +1,163 @@
 package base;
 
+import factory.DocumentScripts;
 import factory.DriverFactory;
+import factory.JourneyPrefetcher;
+import factory.SessionReset;
+import factory.WebVitals;
 import io.qameta.allure.Step;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.EventStream;
 import utils.LoggerUtil;
 
+import java.lang.reflect.Field;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.function.Function;
+import java.util.Map;
 
 /**
  * BasePage - Simple foundation for all Page Object classes
  * 
  * Features:
  * - Basic WebDriver operations
- * - PageFactory initialization
- * - Simple wait and interaction methods
+ * - PageFactory-style initialization with cached, staleness-aware element lookups
+ * - Reflective page metadata computed once per class (see PageMetadata)
+ * - Wait and interaction methods with adaptive timeouts (see AdaptiveTimeouts)
  * - Smart scroll method for finding elements
  * - Professional logging for all actions
+ * - Timed action events in EventStream
+ * - Web vitals captured before leaving each page (see WebVitals)
  */
 public abstract class BasePage {
     
     protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected Actions actions;
     protected JavascriptExecutor js;
     protected final String pageName;
     
+    private static final String PROXY_PREFIX = "Proxy element for: ";
+    private static final PollingStrategy POLLING_STRATEGY = PollingStrategy.fromConfig();
+    
+    // Hooks window.open and target=_blank clicks once per document; arms a single capture
+    private static final String ARM_NEW_WINDOW_CAPTURE_SCRIPT =
+            "if (!window.__newWindowIntercept) {" +
+            "  window.__newWindowIntercept = true;" +
+            "  var originalOpen = window.open;" +
+            "  window.open = function(url) {" +
+            "    if (!window.__captureNewWindow) { return originalOpen.apply(window, arguments); }" +
+            "    window.__captureNewWindow = false;" +
+            "    window.__newWindowTarget = new URL(url, window.location.href).href;" +
+            "    return null;" +
+            "  };" +
+            "  window.addEventListener('click', function(event) {" +
+            "    if (!window.__captureNewWindow || !event.target.closest) { return; }" +
+            "    var link = event.target.closest('a[target]');" +
+            "    if (link && link.href && ['_self', '_parent', '_top'].indexOf(link.target) < 0) {" +
+            "      event.preventDefault();" +
+            "      window.__captureNewWindow = false;" +
+            "      window.__newWindowTarget = link.href;" +
+            "    }" +
+            "  }, true);" +
+            "}" +
+            "window.__newWindowTarget = null;" +
+            "window.__captureNewWindow = true;";
+    private static final String READ_NEW_WINDOW_CAPTURE_SCRIPT = "return window.__newWindowTarget || null;";
+    private static final String DISARM_NEW_WINDOW_CAPTURE_SCRIPT = "window.__captureNewWindow = false;";
+    // Passed to WebDriverWait only - the strategy's sleeper decides the real pause
+    private static final long POLL_INTERVAL_HINT_MS = 500;
+    
+    // Created on first use - many pages never hover
+    private Actions actions;
+    
     /**
      * Constructor for all page objects
+     * 
+     * Prefer Pages.get(PageClass.class), which builds a page on first use
+     * and reuses it for the rest of the session.
      */
     public BasePage(String pageName) {
         this.pageName = pageName;
         this.driver = DriverFactory.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(3));
-        this.actions = new Actions(driver);
         this.js = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
-        LoggerUtil.info("Initialized page: " + pageName);
+        initElements();
+        LoggerUtil.debug("Initialized page: " + pageName);
+    }
+    
+    /**
+     * PageFactory-equivalent field proxying over the cached per-class field list
+     */
+    private void initElements() {
+        FieldDecorator decorator = new CachingFieldDecorator(new CachingElementLocatorFactory(driver));
+        ClassLoader loader = getClass().getClassLoader();
+        for (Field field : PageMetadata.of(getClass()).locatorFields()) {
+            Object proxy = decorator.decorate(loader, field);
+            if (proxy != null) {
+                try {
+                    field.set(this, proxy);
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException("Failed to initialize element field: " + field.getName(), e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Polling between wait condition checks - wait.polling by default
+     */
+    protected PollingStrategy pollingStrategy() {
+        return POLLING_STRATEGY;
+    }
+    
+    /**
+     * Wait for a condition on an element with a timeout adapted to its locator
+     */
+    protected <T> T waitUntil(WebElement element, Function<WebDriver, T> condition) {
+        return waitUntil(locatorOf(element), condition);
+    }
+    
+    /**
+     * Wait for a condition with a timeout adapted to the given key
+     * 
+     * The wait is built per call from AdaptiveTimeouts and its duration is
+     * fed back, so the timeout follows how long this wait really takes: a
+     * learned timeout is the deadline, so fast environments fail fast. A
+     * timeout is recorded too, which widens the key's next timeout.
+     * Pauses between polls come from pollingStrategy().
+     */
+    protected <T> T waitUntil(String key, Function<WebDriver, T> condition) {
+        Duration timeout = AdaptiveTimeouts.timeoutFor(key);
+        long start = System.nanoTime();
+        try {
+            T result = untilWithin(timeout, condition);
+            AdaptiveTimeouts.record(key, elapsedMillis(start));
+            return result;
+        } catch (TimeoutException e) {
+            AdaptiveTimeouts.recordTimeout(key, timeout);
+            throw e;
+        }
+    }
+    
+    private <T> T untilWithin(Duration timeout, Function<WebDriver, T> condition) {
+        WebDriverWait conditionWait = new WebDriverWait(driver, timeout.isNegative() ? Duration.ZERO : timeout,
+                Duration.ofMillis(POLL_INTERVAL_HINT_MS), Clock.systemDefaultZone(), pollingStrategy().newSleeper(driver));
+        return conditionWait.until(condition);
+    }
+    
+    /**
+     * Actions of this page, created on first use
+     */
+    protected Actions getActions() {
+        if (actions == null) {
+            actions = new Actions(driver);
+        }
+        return actions;
     }
 
     // ===================================
@@ -52,10 +168,19 @@ public abstract class BasePage {
     public void click(WebElement element) {
         String elementInfo = getElementInfo(element);
         LoggerUtil.info("Attempting to click on element: " + elementInfo);
+        WebVitals.capture(driver);
+        long start = System.nanoTime();
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(element)).click();
+            WebElement clickable = waitUntil(element, ExpectedConditions.elementToBeClickable(element));
+            // The page has landed once its element is clickable - profile it before the click may leave it
+            LocatorProfiler.profileIfNewPage(driver);
+            clickable.click();
+            DomChangeTracker.mutationPossible(driver);
+            DocumentScripts.reapply(driver);
+            recordAction("click", elementInfo, element, start, null);
             LoggerUtil.info("Successfully clicked on element: " + elementInfo);
         } catch (Exception e) {
+            recordAction("click", elementInfo, element, start, "failed: " + e.getClass().getSimpleName());
             LoggerUtil.error("Failed to click on element: " + elementInfo + " - Error: " + e.getMessage());
             throw e;
         }
@@ -65,10 +190,17 @@ public abstract class BasePage {
     public void fastClick(WebElement element) {
         String elementInfo = getElementInfo(element);
         LoggerUtil.info("Fast clicking on element: " + elementInfo);
+        WebVitals.capture(driver);
+        long start = System.nanoTime();
         try {
+            LocatorProfiler.profileIfNewPage(driver);
             element.click();
+            DomChangeTracker.mutationPossible(driver);
+            DocumentScripts.reapply(driver);
+            recordAction("fastClick", elementInfo, element, start, null);
             LoggerUtil.info("Successfully fast clicked on element: " + elementInfo);
         } catch (Exception e) {
+            recordAction("fastClick", elementInfo, element, start, "failed: " + e.getClass().getSimpleName());
             LoggerUtil.error("Failed to fast click on element: " + elementInfo + " - Error: " + e.getMessage());
             throw e;
         }
@@ -80,6 +212,8 @@ public abstract class BasePage {
             element.click();
         } catch (Exception e) {
             // Silent fail for ultra-fast operations
+        } finally {
+            DomChangeTracker.mutationPossible(driver);
         }
     }
     
@@ -87,12 +221,16 @@ public abstract class BasePage {
     public void sendKeys(WebElement element, String text) {
         String elementInfo = getElementInfo(element);
         LoggerUtil.info("Attempting to enter text '" + text + "' into element: " + elementInfo);
+        long start = System.nanoTime();
         try {
-            WebElement visibleElement = wait.until(ExpectedConditions.visibilityOf(element));
+            WebElement visibleElement = waitUntil(element, ExpectedConditions.visibilityOf(element));
             visibleElement.clear();
             visibleElement.sendKeys(text);
+            DomChangeTracker.mutationPossible(driver);
+            recordAction("sendKeys", elementInfo, element, start, null);
             LoggerUtil.info("Successfully entered text '" + text + "' into element: " + elementInfo);
         } catch (Exception e) {
+            recordAction("sendKeys", elementInfo, element, start, "failed: " + e.getClass().getSimpleName());
             LoggerUtil.error("Failed to enter text into element: " + elementInfo + " - Error: " + e.getMessage());
             throw e;
         }
@@ -102,11 +240,15 @@ public abstract class BasePage {
     public void hover(WebElement element) {
         String elementInfo = getElementInfo(element);
         LoggerUtil.info("Attempting to hover over element: " + elementInfo);
+        long start = System.nanoTime();
         try {
-            wait.until(ExpectedConditions.visibilityOf(element));
-            actions.moveToElement(element).perform();
+            waitUntil(element, ExpectedConditions.visibilityOf(element));
+            getActions().moveToElement(element).perform();
+            DomChangeTracker.mutationPossible(driver);
+            recordAction("hover", elementInfo, element, start, null);
             LoggerUtil.info("Successfully hovered over element: " + elementInfo);
         } catch (Exception e) {
+            recordAction("hover", elementInfo, element, start, "failed: " + e.getClass().getSimpleName());
             LoggerUtil.error("Failed to hover over element: " + elementInfo + " - Error: " + e.getMessage());
             throw e;
         }
@@ -117,7 +259,7 @@ public abstract class BasePage {
         String elementInfo = getElementInfo(element);
         LoggerUtil.info("Waiting for element to be visible: " + elementInfo);
         try {
-            WebElement result = wait.until(ExpectedConditions.visibilityOf(element));
+            WebElement result = waitUntil(element, ExpectedConditions.visibilityOf(element));
             LoggerUtil.info("Element is now visible: " + elementInfo);
             return result;
         } catch (Exception e) {
@@ -131,7 +273,7 @@ public abstract class BasePage {
         String elementInfo = getElementInfo(element);
         LoggerUtil.info("Waiting for element to be clickable: " + elementInfo);
         try {
-            WebElement result = wait.until(ExpectedConditions.elementToBeClickable(element));
+            WebElement result = waitUntil(element, ExpectedConditions.elementToBeClickable(element));
             LoggerUtil.info("Element is now clickable: " + elementInfo);
             return result;
         } catch (Exception e) {
@@ -175,6 +317,7 @@ public abstract class BasePage {
             // Fast scroll down
             LoggerUtil.debug("Scrolling down " + scrollAmount + "px on attempt " + (i + 1));
             js.executeScript("window.scrollBy(0, " + scrollAmount + ");");
+            DomChangeTracker.mutationPossible(driver);
             // Minimal wait for DOM update
             try {
                 Thread.sleep(300);
@@ -202,10 +345,15 @@ public abstract class BasePage {
                 return fieldName;
             }
             
-            // Try to get element info from its attributes for better logging
-            String elementClass = element.getAttribute("class");
-            String elementId = element.getAttribute("id");
-            String elementTag = element.getTagName();
+            // Try to get element info from its attributes for better logging (one round trip)
+            ReadBatch batch = reads();
+            ReadBatch.Key<String> classKey = batch.attribute(element, "class");
+            ReadBatch.Key<String> idKey = batch.attribute(element, "id");
+            ReadBatch.Key<String> tagKey = batch.tagName(element);
+            ReadBatch.Result attributes = batch.execute();
+            String elementClass = attributes.get(classKey);
+            String elementId = attributes.get(idKey);
+            String elementTag = attributes.get(tagKey);
             
             if (elementClass != null && elementClass.contains("position-list-item")) {
                 return "jobListingItem";
@@ -225,30 +373,50 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Records a timed element action in the event stream
+     * 
+     * Proxy elements describe their locator without a lookup, so toString is cheap here.
+     */
+    private void recordAction(String action, String elementInfo, WebElement element, long startNanos, String detail) {
+        EventStream.record(action, pageName + "." + elementInfo, locatorOf(element), elapsedMillis(startNanos), detail);
+    }
+    
+    /**
+     * Locator description of an element, without session details
+     */
+    private static String locatorOf(WebElement element) {
+        String description = element.toString();
+        if (description.startsWith(PROXY_PREFIX)) {
+            return description.substring(PROXY_PREFIX.length());
+        }
+        // Found elements describe themselves as "[[Driver: ... (session)] -> strategy: value]"
+        int arrow = description.lastIndexOf("-> ");
+        return arrow >= 0 ? description.substring(arrow + 3).replaceAll("]+$", "") : description;
+    }
+    
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+    
     /**
      * Tries to find the field name of WebElement using reflection
      */
     private String findFieldName(WebElement element) {
         try {
-            Class<?> pageClass = this.getClass();
-            java.lang.reflect.Field[] fields = pageClass.getDeclaredFields();
-            
-            for (java.lang.reflect.Field field : fields) {
-                if (field.getType() == WebElement.class || field.getType().getName().contains("WebElement")) {
-                    field.setAccessible(true);
-                    try {
-                        Object fieldElement = field.get(this);
-                        if (fieldElement != null) {
-                            // For proxy elements, compare string representations
-                            if (fieldElement.toString().equals(element.toString()) || 
-                                fieldElement == element) {
-                                return field.getName();
-                            }
+            for (Field field : PageMetadata.of(getClass()).elementFields()) {
+                try {
+                    Object fieldElement = field.get(this);
+                    if (fieldElement != null) {
+                        // For proxy elements, compare string representations
+                        if (fieldElement.toString().equals(element.toString()) || 
+                            fieldElement == element) {
+                            return field.getName();
                         }
-                    } catch (Exception fieldException) {
-                        // Skip this field if access fails
-                        continue;
                     }
+                } catch (Exception fieldException) {
+                    // Skip this field if access fails
+                    continue;
                 }
             }
         } catch (Exception e) {
@@ -273,12 +441,115 @@ public abstract class BasePage {
         return title;
     }
     
+    /**
+     * Start a batch of page and element reads executed in one round trip
+     */
+    protected ReadBatch reads() {
+        return new ReadBatch(js);
+    }
+    
+    // ===================================
+    // OPTIONAL ELEMENT PROBES
+    // ===================================
+    
+    /**
+     * Check instantly, in one script call, whether an element field is visible
+     * 
+     * Never blocks on the implicit wait - meant for popups and banners that are usually absent.
+     */
+    protected boolean isVisibleNow(String fieldName) {
+        return waitForOptional(fieldName, Duration.ZERO);
+    }
+    
+    /**
+     * Give an optional element field up to maxWait to become visible - false if it doesn't
+     */
+    protected boolean waitForOptional(String fieldName, Duration maxWait) {
+        boolean visible = expectations().visible(fieldName, fieldName + " is visible").holdsWithin(maxWait);
+        LoggerUtil.debug("Optional element " + fieldName + (visible ? " is visible" : " is not present"));
+        return visible;
+    }
+    
+    /**
+     * Start a batch of page expectations evaluated in one round trip
+     */
+    protected PageChecks expectations() {
+        return new PageChecks(this, js);
+    }
+    
+    /**
+     * Run independent read-only validations concurrently loaded in separate tabs
+     * 
+     * Keys are the URLs to open, values the validations to run once that tab is loaded.
+     * Page objects can be used inside validations - they act on whichever tab is current.
+     */
+    @Step("Validate pages in parallel tabs")
+    public void validateInTabs(Map<String, Runnable> validationsByUrl) {
+        LoggerUtil.info("Validating " + validationsByUrl.size() + " pages in parallel tabs");
+        DriverFactory.runInTabs(validationsByUrl);
+    }
+    
+    /**
+     * Like validateInTabs(Map), then continue on the already loaded tab of continueUrl
+     */
+    @Step("Validate pages in parallel tabs, continue on: {continueUrl}")
+    public void validateInTabs(Map<String, Runnable> validationsByUrl, String continueUrl) {
+        LoggerUtil.info("Validating " + validationsByUrl.size() + " pages in parallel tabs, continuing on " + continueUrl);
+        DriverFactory.runInTabs(validationsByUrl, continueUrl);
+    }
+    
+    /**
+     * Run an action that would open a new window and capture its URL instead
+     * 
+     * window.open calls and clicks on links with a new-window target are
+     * intercepted in the page, so no tab is opened and nothing is loaded.
+     * Follow the result with followCapturedLink when the content is needed.
+     */
+    @Step("Capture new window target")
+    public String captureNewWindowTarget(Runnable action) {
+        js.executeScript(ARM_NEW_WINDOW_CAPTURE_SCRIPT);
+        try {
+            action.run();
+            String url = waitUntil(pageName + ".newWindowTarget",
+                    d -> (String) js.executeScript(READ_NEW_WINDOW_CAPTURE_SCRIPT));
+            LoggerUtil.info("Captured new window target: " + url);
+            return url;
+        } catch (RuntimeException e) {
+            LoggerUtil.error("No new window target captured - Error: " + e.getMessage());
+            throw e;
+        } finally {
+            js.executeScript(DISARM_NEW_WINDOW_CAPTURE_SCRIPT);
+        }
+    }
+    
+    /**
+     * Check the pages visited so far against the performance budgets (see WebVitals)
+     */
+    @Step("Check performance budgets")
+    public void checkPerformanceBudgets() {
+        WebVitals.assertBudgets(driver);
+    }
+    
+    @Step("Follow captured link: {url}")
+    public void followCapturedLink(String url) {
+        navigateToUrl(url);
+    }
+    
+    /**
+     * Let the browser fetch a page the test will visit next (see JourneyPrefetcher)
+     */
+    public void prefetch(String url) {
+        JourneyPrefetcher.prefetch(driver, url);
+    }
+    
     public void switchToNewWindow() {
         LoggerUtil.info("Switching to new window/tab");
         String originalWindow = driver.getWindowHandle();
         for (String windowHandle : driver.getWindowHandles()) {
             if (!windowHandle.equals(originalWindow)) {
                 driver.switchTo().window(windowHandle);
+                DomChangeTracker.navigationOccurred(driver);
+                DocumentScripts.installInCurrentWindow(driver);
                 LoggerUtil.info("Successfully switched to new window: " + getCurrentUrl());
                 break;
             }
@@ -294,6 +565,9 @@ public abstract class BasePage {
             Thread.sleep(seconds * 1000L);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+        } finally {
+            // Async rendering may have landed while we slept
+            DomChangeTracker.mutationPossible(driver);
         }
     }
     
@@ -302,8 +576,15 @@ public abstract class BasePage {
     @Step("Navigate to URL: {url}")
     public void navigateToUrl(String url) {
         LoggerUtil.info("Navigating to URL: " + url);
+        WebVitals.capture(driver);
+        long start = System.nanoTime();
         try {
+            SessionReset.recordVisit(driver, url);
             driver.get(url);
+            DomChangeTracker.navigationOccurred(driver);
+            DocumentScripts.reapply(driver);
+            EventStream.record("navigate", pageName, null, elapsedMillis(start), url);
+            LocatorProfiler.profileIfNewPage(driver);
             LoggerUtil.info("Successfully navigated to: " + getCurrentUrl());
         } catch (Exception e) {
             LoggerUtil.error("Failed to navigate to URL: " + url + " - Error: " + e.getMessage());
@@ -0,0 +1,102 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * CachingElementLocator - ElementLocator that keeps resolved elements
+ *
+ * Single elements stay cached until a navigation happens or the element
+ * goes stale (the proxy handler calls invalidate() and re-finds).
+ * Element lists are re-resolved after any DOM-changing action, since
+ * re-rendered lists (e.g. job filtering) can gain rows without the
+ * existing ones going stale.
+ * Fields annotated with @CacheLookup keep their element for the page lifetime.
+ */
+public class CachingElementLocator implements ElementLocator {
+
+    private final WebDriver driver;
+    private final SearchContext searchContext;
+    private final By by;
+    private final boolean permanentCache;
+
+    private WebElement cachedElement;
+    private long elementGeneration;
+    private List<WebElement> cachedElements;
+    private long elementsGeneration;
+
+    public CachingElementLocator(WebDriver driver, Field field) {
+        this(driver, driver, new Annotations(field));
+    }
+
+    public CachingElementLocator(WebDriver driver, SearchContext searchContext, Annotations annotations) {
+        this(driver, searchContext, annotations.buildBy(), annotations.isLookupCached());
+    }
+
+    protected CachingElementLocator(WebDriver driver, SearchContext searchContext, By by, boolean permanentCache) {
+        this.driver = driver;
+        this.searchContext = searchContext;
+        this.by = by;
+        this.permanentCache = permanentCache;
+    }
+
+    @Override
+    public WebElement findElement() {
+        long generation = DomChangeTracker.navigationGeneration(driver);
+        if (cachedElement != null && (permanentCache || generation == elementGeneration)) {
+            return cachedElement;
+        }
+        cachedElement = lookupElement();
+        elementGeneration = generation;
+        return cachedElement;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        long generation = DomChangeTracker.mutationGeneration(driver);
+        if (cachedElements != null && (permanentCache || generation == elementsGeneration)) {
+            return cachedElements;
+        }
+        cachedElements = lookupElements();
+        elementsGeneration = generation;
+        return cachedElements;
+    }
+
+    /**
+     * Resolve the element in the browser - bypasses the cache
+     */
+    protected WebElement lookupElement() {
+        return searchContext.findElement(by);
+    }
+
+    /**
+     * Resolve all matching elements in the browser - bypasses the cache
+     */
+    protected List<WebElement> lookupElements() {
+        return searchContext.findElements(by);
+    }
+
+    /**
+     * Drop cached lookups - called when a cached element turned out to be stale
+     */
+    public void invalidate() {
+        cachedElement = null;
+        cachedElements = null;
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    @Override
+    public String toString() {
+        return "Located by " + by;
+    }
+}
@@ -0,0 +1,29 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+
+/**
+ * CachingElementLocatorFactory - Creates CachingElementLocator per page field
+ *
+ * Fields annotated with @FindFirst get a FallbackElementLocator instead.
+ */
+public class CachingElementLocatorFactory implements ElementLocatorFactory {
+
+    private final WebDriver driver;
+
+    public CachingElementLocatorFactory(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        if (field.isAnnotationPresent(FindFirst.class)) {
+            return new FallbackElementLocator(driver, field);
+        }
+        return new CachingElementLocator(driver, field);
+    }
+}
@@ -0,0 +1,125 @@
+package base;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * CachingFieldDecorator - PageFactory decorator backed by caching locators
+ *
+ * Proxies reuse the element held by CachingElementLocator and transparently
+ * re-find it once when the browser reports StaleElementReferenceException.
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+
+    public CachingFieldDecorator(ElementLocatorFactory factory) {
+        super(factory);
+    }
+
+    /**
+     * Also proxy List&lt;WebElement&gt; fields carrying only @FindFirst
+     */
+    @Override
+    protected boolean isDecoratableList(Field field) {
+        if (super.isDecoratableList(field)) {
+            return true;
+        }
+        return field.isAnnotationPresent(FindFirst.class) && List.class.isAssignableFrom(field.getType())
+                && field.getGenericType() instanceof ParameterizedType listType
+                && listType.getActualTypeArguments()[0] == WebElement.class;
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        InvocationHandler handler = new CachingElementHandler(locator);
+        return (WebElement) Proxy.newProxyInstance(
+                loader, new Class[]{WebElement.class, WrapsElement.class, Locatable.class}, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<WebElement> proxyForListLocator(ClassLoader loader, ElementLocator locator) {
+        InvocationHandler handler = new CachingElementListHandler(locator);
+        return (List<WebElement>) Proxy.newProxyInstance(loader, new Class[]{List.class}, handler);
+    }
+
+    private static void invalidate(ElementLocator locator) {
+        if (locator instanceof CachingElementLocator cachingLocator) {
+            cachingLocator.invalidate();
+        }
+    }
+
+    // ===================================
+    // PROXY HANDLERS
+    // ===================================
+
+    private static final class CachingElementHandler implements InvocationHandler {
+
+        private final ElementLocator locator;
+
+        private CachingElementHandler(ElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // Answered without a lookup so logging and field-name resolution stay free
+            if ("toString".equals(method.getName())) {
+                return "Proxy element for: " + locator;
+            }
+
+            WebElement element = locator.findElement();
+
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+            }
+
+            // Element was re-rendered or the page navigated - re-find once and retry
+            invalidate(locator);
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class CachingElementListHandler implements InvocationHandler {
+
+        private final ElementLocator locator;
+
+        private CachingElementListHandler(ElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            List<WebElement> elements = locator.findElements();
+            try {
+                return method.invoke(elements, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
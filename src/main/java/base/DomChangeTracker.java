@@ -0,0 +1,74 @@
+package base;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * DomChangeTracker - Per-driver navigation and DOM mutation generations
+ *
+ * Every navigation and every DOM-changing framework action (click, typing,
+ * hover, scroll, waits that let async rendering land) bumps a generation
+ * counter for the driver. Cached element lookups remember the generation
+ * they were resolved in and are dropped once it moves on.
+ */
+public final class DomChangeTracker {
+
+    private static final Map<WebDriver, Generations> generations =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DomChangeTracker() {
+    }
+
+    /**
+     * Record that the driver loaded a new document
+     */
+    public static void navigationOccurred(WebDriver driver) {
+        Generations current = generationsFor(driver);
+        synchronized (current) {
+            current.navigation++;
+            current.mutation++;
+        }
+    }
+
+    /**
+     * Record that the current document may have been mutated
+     */
+    public static void mutationPossible(WebDriver driver) {
+        Generations current = generationsFor(driver);
+        synchronized (current) {
+            current.mutation++;
+        }
+    }
+
+    /**
+     * Get navigation generation - changes only when a new document is loaded
+     */
+    public static long navigationGeneration(WebDriver driver) {
+        Generations current = generationsFor(driver);
+        synchronized (current) {
+            return current.navigation;
+        }
+    }
+
+    /**
+     * Get mutation generation - changes on navigation and on every DOM-changing action
+     */
+    public static long mutationGeneration(WebDriver driver) {
+        Generations current = generationsFor(driver);
+        synchronized (current) {
+            return current.mutation;
+        }
+    }
+
+    private static Generations generationsFor(WebDriver driver) {
+        return generations.computeIfAbsent(driver, key -> new Generations());
+    }
+
+    private static final class Generations {
+        private long navigation;
+        private long mutation;
+    }
+}
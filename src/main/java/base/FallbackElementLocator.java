@@ -0,0 +1,133 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.pagefactory.ByAll;
+import utils.LoggerUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * FallbackElementLocator - Resolves @FindFirst alternatives in one script call
+ *
+ * Alternatives are tried in declaration order inside the browser and the
+ * first one with a displayed match (client rects, not visibility:hidden)
+ * wins with its displayed matches, so a hidden duplicate of the primary
+ * locator falls through to the next alternative, as a visibility check per
+ * locator would. When nothing is displayed yet, the first alternative with
+ * any match wins, so waits for visibility still get an element. A missing
+ * primary locator costs nothing extra. Win counts per alternative are kept
+ * for the suite usage summary.
+ */
+public class FallbackElementLocator extends CachingElementLocator {
+
+    private static final String FIND_FIRST_SCRIPT = LocatorSpec.RESOLVE_FUNCTION +
+            "var specs = arguments[0], firstPresent = null;" +
+            "function displayed(node) {" +
+            "  return node.getClientRects().length > 0 && getComputedStyle(node).visibility !== 'hidden';" +
+            "}" +
+            "for (var i = 0; i < specs.length; i++) {" +
+            "  var nodes = __resolveLocator(specs[i]);" +
+            "  var shown = nodes.filter(displayed);" +
+            "  if (shown.length > 0) { return [i, shown]; }" +
+            "  if (nodes.length > 0 && firstPresent === null) { firstPresent = [i, nodes]; }" +
+            "}" +
+            "return firstPresent;";
+
+    private static final Map<String, AtomicLongArray> winsByField = new ConcurrentHashMap<>();
+
+    private final JavascriptExecutor js;
+    private final String fieldName;
+    private final List<LocatorSpec> alternatives = new ArrayList<>();
+    private final List<Map<String, String>> scriptArgs = new ArrayList<>();
+    private int lastWinner = -1;
+
+    public FallbackElementLocator(WebDriver driver, Field field) {
+        super(driver, driver, buildBy(field), false);
+        this.js = (JavascriptExecutor) driver;
+        this.fieldName = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        for (FindBy findBy : field.getAnnotation(FindFirst.class).value()) {
+            LocatorSpec spec = LocatorSpec.from(findBy);
+            alternatives.add(spec);
+            scriptArgs.add(spec.toScriptArg());
+        }
+        winsByField.computeIfAbsent(fieldName, key -> new AtomicLongArray(alternatives.size()));
+    }
+
+    private static By buildBy(Field field) {
+        FindBy[] findBys = field.getAnnotation(FindFirst.class).value();
+        By[] bys = new By[findBys.length];
+        for (int i = 0; i < findBys.length; i++) {
+            bys[i] = new FindBy.FindByBuilder().buildIt(findBys[i], field);
+        }
+        return new ByAll(bys);
+    }
+
+    @Override
+    protected WebElement lookupElement() {
+        List<WebElement> elements = lookupElements();
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("No alternative matched for " + fieldName + ": " + alternatives);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    protected List<WebElement> lookupElements() {
+        Object result = js.executeScript(FIND_FIRST_SCRIPT, scriptArgs);
+        if (!(result instanceof List<?> match)) {
+            return Collections.emptyList();
+        }
+
+        int winner = ((Number) match.get(0)).intValue();
+        winsByField.get(fieldName).incrementAndGet(winner);
+        if (winner != lastWinner) {
+            LoggerUtil.info("Locator " + fieldName + " resolved by alternative #" + (winner + 1) +
+                    " of " + alternatives.size() + ": " + alternatives.get(winner));
+            lastWinner = winner;
+        }
+
+        List<WebElement> elements = new ArrayList<>();
+        for (Object element : (List<?>) match.get(1)) {
+            elements.add((WebElement) element);
+        }
+        return elements;
+    }
+
+    /**
+     * Log how often each alternative won, highlighting ones that never did
+     */
+    public static void logUsageSummary() {
+        winsByField.forEach((field, wins) -> {
+            long total = 0;
+            for (int i = 0; i < wins.length(); i++) {
+                total += wins.get(i);
+            }
+            if (total == 0) {
+                return;
+            }
+            for (int i = 0; i < wins.length(); i++) {
+                if (wins.get(i) == 0) {
+                    LoggerUtil.warn("Alternative #" + (i + 1) + " of " + field + " never won - candidate for pruning");
+                } else {
+                    LoggerUtil.info("Alternative #" + (i + 1) + " of " + field + " won " + wins.get(i) + "/" + total + " lookups");
+                }
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "Located by first match of " + alternatives;
+    }
+}
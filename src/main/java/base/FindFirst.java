@@ -0,0 +1,33 @@
+package base;
+
+import org.openqa.selenium.support.FindBy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * FindFirst - Ordered alternative locators for a single page element
+ *
+ * All alternatives are evaluated together in one script call and the first
+ * one with a displayed match wins (see FallbackElementLocator). Works on
+ * WebElement and List&lt;WebElement&gt; fields. The winning alternative is
+ * logged, and a usage summary at suite end shows alternatives that never
+ * matched.
+ *
+ * Usage:
+ * <pre>
+ * &#64;FindFirst({
+ *     &#64;FindBy(xpath = "//h3[contains(text(), 'Our Locations')]"),
+ *     &#64;FindBy(css = "section.elementor-section[data-id='a8e7b90']")
+ * })
+ * public WebElement locationsBlock;
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface FindFirst {
+
+    FindBy[] value();
+}
@@ -0,0 +1,348 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorProfiler - Locator cost profiling for @FindBy declarations
+ *
+ * Enabled with locator.profiling=true. Every @FindBy in the pages package,
+ * including each @FindFirst alternative, is resolved inside the browser on
+ * each newly visited page, repeated locator.profiling.samples times, and its
+ * resolution time and match count are recorded. At suite end a report ranks
+ * locators by cost, flags single-element fields that match several nodes and
+ * suggests cheaper equivalents.
+ */
+public final class LocatorProfiler {
+
+    private static final String PAGES_PACKAGE = "pages";
+    private static final String REPORT_FILE = "locator-profile.txt";
+
+    private static final String PROFILE_SCRIPT = LocatorSpec.RESOLVE_FUNCTION +
+            "if (document.readyState !== 'complete') { return null; }" +
+            "var specs = arguments[0], samples = arguments[1], results = [];" +
+            "for (var i = 0; i < specs.length; i++) {" +
+            "  var times = [], matches = 0, error = null;" +
+            "  try {" +
+            "    for (var s = 0; s < samples; s++) {" +
+            "      var start = performance.now();" +
+            "      matches = __resolveLocator(specs[i]).length;" +
+            "      times.push(performance.now() - start);" +
+            "    }" +
+            "  } catch (e) { error = String(e); }" +
+            "  times.sort(function(a, b) { return a - b; });" +
+            "  results.push({" +
+            "    median: times.length ? times[Math.floor(times.length / 2)] : 0," +
+            "    max: times.length ? times[times.length - 1] : 0," +
+            "    matches: matches, error: error });" +
+            "}" +
+            "return results;";
+
+    private static final Pattern SIMPLE_ATTRIBUTE_XPATH =
+            Pattern.compile("^//([\\w*-]+)\\[(@[\\w-]+='[^']*'(?: and @[\\w-]+='[^']*')*)]$");
+    private static final Pattern ATTRIBUTE_PREDICATE = Pattern.compile("@([\\w-]+)='([^']*)'");
+    private static final Pattern ID_PREDICATE = Pattern.compile("^//([\\w-]+)\\[@id='([^']*)'");
+    private static final Pattern CONTAINS_ATTRIBUTE = Pattern.compile("contains\\(@([\\w-]+), *'([^']*)'\\)");
+
+    private static final Map<String, LocatorStats> stats = new ConcurrentHashMap<>();
+    private static final Set<String> profiledPages = ConcurrentHashMap.newKeySet();
+    private static volatile List<DeclaredLocator> declaredLocators;
+
+    private LocatorProfiler() {
+    }
+
+    /**
+     * Check whether locator profiling mode is enabled
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("locator.profiling", false);
+    }
+
+    /**
+     * Profile all declared locators against the current page, once per page URL
+     *
+     * Call once the page has loaded (after driver.get or a wait on one of its
+     * elements) - right after a click the navigation may not have landed yet.
+     */
+    public static void profileIfNewPage(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            String pageUrl = stripQuery(driver.getCurrentUrl());
+            if (profiledPages.contains(pageUrl)) {
+                return;
+            }
+
+            List<DeclaredLocator> locators = getDeclaredLocators();
+            List<Map<String, String>> specs = new ArrayList<>();
+            for (DeclaredLocator locator : locators) {
+                specs.add(locator.spec().toScriptArg());
+            }
+
+            int samples = ConfigReader.getIntProperty("locator.profiling.samples", 20);
+            Object result = ((JavascriptExecutor) driver).executeScript(PROFILE_SCRIPT, specs, samples);
+            if (!(result instanceof List<?> measurements)) {
+                LoggerUtil.debug("Page not ready for locator profiling: " + pageUrl);
+                return;
+            }
+
+            for (int i = 0; i < locators.size(); i++) {
+                Map<?, ?> measurement = (Map<?, ?>) measurements.get(i);
+                stats.computeIfAbsent(locators.get(i).key(), key -> new LocatorStats())
+                        .record(pageUrl, measurement);
+            }
+            profiledPages.add(pageUrl);
+            LoggerUtil.info("Profiled " + locators.size() + " locators on: " + pageUrl);
+
+        } catch (Exception e) {
+            LoggerUtil.warn("Locator profiling failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the ranked report to the configured report path
+     */
+    public static void writeReport() {
+        if (!isEnabled() || stats.isEmpty()) {
+            return;
+        }
+        String report = buildReport();
+        Path reportFile = Paths.get(ConfigReader.getProperty("report.path", "target/reports/"), REPORT_FILE);
+        try {
+            Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+            LoggerUtil.info("Locator cost profile written to: " + reportFile);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write locator profile report", e);
+        }
+        LoggerUtil.info(report);
+    }
+
+    /**
+     * Build report ranking locators by their worst median resolution time
+     */
+    public static String buildReport() {
+        List<DeclaredLocator> ranked = new ArrayList<>(getDeclaredLocators());
+        ranked.removeIf(locator -> !stats.containsKey(locator.key()));
+        ranked.sort(Comparator.comparingDouble((DeclaredLocator locator) ->
+                stats.get(locator.key()).worstMedianMs).reversed());
+
+        StringBuilder report = new StringBuilder();
+        report.append("📊 LOCATOR COST PROFILE - ")
+                .append(ranked.size()).append(" locators, ")
+                .append(profiledPages.size()).append(" pages\n");
+        report.append(String.format("%-5s %-11s %-9s %-8s %s%n", "Rank", "Median(ms)", "Max(ms)", "Matches", "Locator"));
+
+        int rank = 1;
+        for (DeclaredLocator locator : ranked) {
+            LocatorStats locatorStats = stats.get(locator.key());
+            report.append(String.format("%-5d %-11.3f %-9.3f %-8d %s [%s]%n",
+                    rank++, locatorStats.worstMedianMs, locatorStats.worstMaxMs,
+                    locatorStats.maxMatches, locator.key(), locator.spec()));
+
+            if (!locator.list() && locatorStats.maxMatches > 1) {
+                report.append("      ⚠ single-element field matched ").append(locatorStats.maxMatches)
+                        .append(" nodes on ").append(locatorStats.multiMatchPage).append('\n');
+            }
+            if (locatorStats.maxMatches == 0) {
+                report.append("      ⚠ matched nothing on any profiled page\n");
+            }
+            if (locatorStats.error != null) {
+                report.append("      ✗ error: ").append(locatorStats.error).append('\n');
+            }
+            String suggestion = suggestCheaperLocator(locator.spec());
+            if (suggestion != null) {
+                report.append("      💡 ").append(suggestion).append('\n');
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Suggest a cheaper equivalent for a locator, or null if none is known
+     */
+    static String suggestCheaperLocator(LocatorSpec spec) {
+        if (!LocatorSpec.XPATH.equals(spec.strategy())) {
+            return null;
+        }
+        String xpath = spec.value();
+
+        Matcher simple = SIMPLE_ATTRIBUTE_XPATH.matcher(xpath);
+        if (simple.matches()) {
+            String tag = "*".equals(simple.group(1)) ? "" : simple.group(1);
+            StringBuilder css = new StringBuilder(tag);
+            Matcher predicate = ATTRIBUTE_PREDICATE.matcher(simple.group(2));
+            while (predicate.find()) {
+                if ("id".equals(predicate.group(1))) {
+                    css.append('#').append(predicate.group(2));
+                } else {
+                    css.append('[').append(predicate.group(1)).append("='").append(predicate.group(2)).append("']");
+                }
+            }
+            return "use css = \"" + css + "\" (attribute-only XPath)";
+        }
+
+        if (xpath.contains("text()") || xpath.contains("normalize-space")) {
+            Matcher idPredicate = ID_PREDICATE.matcher(xpath);
+            if (idPredicate.find()) {
+                return "use css = \"" + idPredicate.group(1) + "#" + idPredicate.group(2) +
+                        "\" - the id is already unique, the text() predicate only adds cost";
+            }
+            Matcher containsAttribute = CONTAINS_ATTRIBUTE.matcher(xpath);
+            if (containsAttribute.find()) {
+                return "use css = \"[" + containsAttribute.group(1) + "*='" + containsAttribute.group(2) +
+                        "']\" and check the text in code instead of a text() predicate";
+            }
+            return "text predicates scan text nodes of every candidate - prefer a stable class, id or " +
+                    "data attribute (css) and verify the text in code";
+        }
+
+        if (xpath.startsWith("//*")) {
+            return "unscoped wildcard XPath - anchor it on a tag name or container";
+        }
+        return null;
+    }
+
+    // ===================================
+    // @FindBy DISCOVERY
+    // ===================================
+
+    private static List<DeclaredLocator> getDeclaredLocators() {
+        if (declaredLocators == null) {
+            synchronized (LocatorProfiler.class) {
+                if (declaredLocators == null) {
+                    declaredLocators = Collections.unmodifiableList(scanPagesPackage());
+                }
+            }
+        }
+        return declaredLocators;
+    }
+
+    private static List<DeclaredLocator> scanPagesPackage() {
+        List<DeclaredLocator> locators = new ArrayList<>();
+        for (String className : findClassNames(PAGES_PACKAGE)) {
+            try {
+                Class<?> pageClass = Class.forName(className);
+                for (Field field : pageClass.getDeclaredFields()) {
+                    String key = pageClass.getSimpleName() + "." + field.getName();
+                    boolean list = !WebElement.class.isAssignableFrom(field.getType());
+                    FindBy findBy = field.getAnnotation(FindBy.class);
+                    if (findBy != null) {
+                        locators.add(new DeclaredLocator(key, list, LocatorSpec.from(findBy)));
+                    }
+                    FindFirst findFirst = field.getAnnotation(FindFirst.class);
+                    if (findFirst != null) {
+                        FindBy[] alternatives = findFirst.value();
+                        for (int i = 0; i < alternatives.length; i++) {
+                            locators.add(new DeclaredLocator(key + "#" + (i + 1), list, LocatorSpec.from(alternatives[i])));
+                        }
+                    }
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                LoggerUtil.warn("Skipping page class for locator profiling: " + className);
+            }
+        }
+        LoggerUtil.info("Discovered " + locators.size() + " @FindBy locators in package: " + PAGES_PACKAGE);
+        return locators;
+    }
+
+    private static List<String> findClassNames(String packageName) {
+        List<String> classNames = new ArrayList<>();
+        String packagePath = packageName.replace('.', '/');
+        try {
+            Enumeration<URL> resources = LocatorProfiler.class.getClassLoader().getResources(packagePath);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if ("jar".equals(resource.getProtocol())) {
+                    try (JarFile jar = ((JarURLConnection) resource.openConnection()).getJarFile()) {
+                        Enumeration<JarEntry> entries = jar.entries();
+                        while (entries.hasMoreElements()) {
+                            String name = entries.nextElement().getName();
+                            if (name.startsWith(packagePath + "/") && name.endsWith(".class") && !name.contains("$")) {
+                                classNames.add(name.replace('/', '.').replace(".class", ""));
+                            }
+                        }
+                    }
+                } else {
+                    File directory = new File(URLDecoder.decode(resource.getFile(), StandardCharsets.UTF_8));
+                    String[] files = directory.list();
+                    if (files == null) {
+                        continue;
+                    }
+                    for (String file : files) {
+                        if (file.endsWith(".class") && !file.contains("$")) {
+                            classNames.add(packageName + "." + file.replace(".class", ""));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to scan package: " + packageName, e);
+        }
+        return classNames;
+    }
+
+    private static String stripQuery(String url) {
+        int queryStart = url.indexOf('?');
+        return queryStart >= 0 ? url.substring(0, queryStart) : url;
+    }
+
+    // ===================================
+    // MODEL
+    // ===================================
+
+    private record DeclaredLocator(String key, boolean list, LocatorSpec spec) {
+    }
+
+    private static final class LocatorStats {
+        private double worstMedianMs;
+        private double worstMaxMs;
+        private long maxMatches;
+        private String multiMatchPage;
+        private String error;
+
+        private synchronized void record(String pageUrl, Map<?, ?> measurement) {
+            double median = ((Number) measurement.get("median")).doubleValue();
+            double max = ((Number) measurement.get("max")).doubleValue();
+            long matches = ((Number) measurement.get("matches")).longValue();
+
+            worstMedianMs = Math.max(worstMedianMs, median);
+            worstMaxMs = Math.max(worstMaxMs, max);
+            if (matches > maxMatches) {
+                maxMatches = matches;
+                multiMatchPage = pageUrl;
+            }
+            if (measurement.get("error") != null) {
+                error = String.valueOf(measurement.get("error"));
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package base;
+
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * LocatorSpec - Browser-evaluable form of a @FindBy declaration
+ *
+ * Every locator is reduced to either a CSS selector or an XPath expression,
+ * so it can be resolved inside executeScript together with other locators
+ * instead of costing one findElement round trip each.
+ */
+public record LocatorSpec(String strategy, String value) {
+
+    public static final String CSS = "css";
+    public static final String XPATH = "xpath";
+
+    /**
+     * JavaScript function resolving a spec (as produced by toScriptArg) to an array of elements
+     */
+    public static final String RESOLVE_FUNCTION =
+            "function __resolveLocator(spec) {" +
+            "  if (spec.strategy === 'css') { return Array.from(document.querySelectorAll(spec.value)); }" +
+            "  var snapshot = document.evaluate(spec.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  var nodes = [];" +
+            "  for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }" +
+            "  return nodes;" +
+            "}";
+
+    /**
+     * Build spec from a @FindBy annotation
+     */
+    public static LocatorSpec from(FindBy findBy) {
+        if (!findBy.css().isEmpty()) return new LocatorSpec(CSS, findBy.css());
+        if (!findBy.xpath().isEmpty()) return new LocatorSpec(XPATH, findBy.xpath());
+        if (!findBy.id().isEmpty()) return fromHow(How.ID, findBy.id());
+        if (!findBy.name().isEmpty()) return fromHow(How.NAME, findBy.name());
+        if (!findBy.className().isEmpty()) return fromHow(How.CLASS_NAME, findBy.className());
+        if (!findBy.tagName().isEmpty()) return fromHow(How.TAG_NAME, findBy.tagName());
+        if (!findBy.linkText().isEmpty()) return fromHow(How.LINK_TEXT, findBy.linkText());
+        if (!findBy.partialLinkText().isEmpty()) return fromHow(How.PARTIAL_LINK_TEXT, findBy.partialLinkText());
+        return fromHow(findBy.how(), findBy.using());
+    }
+
+    /**
+     * Build spec from the @FindBy annotation of a page field, or null if it has none
+     */
+    public static LocatorSpec of(Field field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        return findBy == null ? null : from(findBy);
+    }
+
+    private static LocatorSpec fromHow(How how, String using) {
+        return switch (how) {
+            case CSS -> new LocatorSpec(CSS, using);
+            case XPATH -> new LocatorSpec(XPATH, using);
+            case ID, ID_OR_NAME, UNSET -> new LocatorSpec(CSS, "[id='" + using + "']");
+            case NAME -> new LocatorSpec(CSS, "[name='" + using + "']");
+            case CLASS_NAME -> new LocatorSpec(CSS, "." + using);
+            case TAG_NAME -> new LocatorSpec(CSS, using);
+            case LINK_TEXT -> new LocatorSpec(XPATH, "//a[normalize-space(.)='" + using + "']");
+            case PARTIAL_LINK_TEXT -> new LocatorSpec(XPATH, "//a[contains(., '" + using + "')]");
+        };
+    }
+
+    /**
+     * Convert to a plain map that can be passed as an executeScript argument
+     */
+    public Map<String, String> toScriptArg() {
+        return Map.of("strategy", strategy, "value", value);
+    }
+
+    @Override
+    public String toString() {
+        return strategy + ": " + value;
+    }
+}
@@ -0,0 +1,240 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.support.FindBy;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PageChecks - Declarative page expectations evaluated in one round trip
+ *
+ * A page registers its expectations (URL, title, element visibility, text)
+ * and verify() evaluates all of them in a single executeScript call.
+ * Results are reported as a soft-assert batch: every check is logged and
+ * one AssertionError lists all failures.
+ *
+ * Usage:
+ * <pre>
+ * expectations()
+ *     .urlContains("careers", "URL should contain careers!")
+ *     .visible("headerReadyToDisrupt", "Header not displayed!")
+ *     .verify();
+ * </pre>
+ */
+public class PageChecks {
+
+    private static final String CHECK_SCRIPT = LocatorSpec.RESOLVE_FUNCTION +
+            "function normalize(text) {" +
+            "  return text.normalize('NFD').replace(/[^\\x00-\\x7F]/g, '').toLowerCase();" +
+            "}" +
+            "function firstMatch(specs) {" +
+            "  for (var i = 0; i < specs.length; i++) {" +
+            "    var nodes = __resolveLocator(specs[i]);" +
+            "    if (nodes.length > 0) { return nodes[0]; }" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "function isVisible(el) {" +
+            "  if (!el) { return false; }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  return style.display !== 'none' && style.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "}" +
+            "var checks = arguments[0], results = [];" +
+            "for (var i = 0; i < checks.length; i++) {" +
+            "  var check = checks[i], actual = null, passed = false;" +
+            "  if (check.type === 'urlContains') {" +
+            "    actual = window.location.href;" +
+            "    passed = actual.toLowerCase().indexOf(check.values[0].toLowerCase()) >= 0;" +
+            "  } else if (check.type === 'titleContainsAny') {" +
+            "    actual = document.title;" +
+            "    passed = check.values.some(function(v) { return normalize(actual).indexOf(normalize(v)) >= 0; });" +
+            "  } else if (check.type === 'titleMatches') {" +
+            "    actual = document.title;" +
+            "    passed = new RegExp(check.values[0], 'i').test(actual);" +
+            "  } else if (check.type === 'visible') {" +
+            "    var el = firstMatch(check.specs);" +
+            "    actual = el ? (isVisible(el) ? 'visible' : 'hidden') : 'absent';" +
+            "    passed = isVisible(el);" +
+            "  } else if (check.type === 'textEquals') {" +
+            "    var textEl = firstMatch(check.specs);" +
+            "    actual = textEl ? textEl.innerText.trim() : null;" +
+            "    passed = actual === check.values[0];" +
+            "  }" +
+            "  results.push({passed: passed, actual: actual});" +
+            "}" +
+            "return results;";
+
+    private static final long POLL_INTERVAL_MS = 250;
+
+    private final BasePage page;
+    private final JavascriptExecutor js;
+    private final List<Map<String, Object>> checks = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
+
+    PageChecks(BasePage page, JavascriptExecutor js) {
+        this.page = page;
+        this.js = js;
+    }
+
+    // ===================================
+    // EXPECTATIONS
+    // ===================================
+
+    /**
+     * Current URL contains the fragment (case-insensitive)
+     */
+    public PageChecks urlContains(String fragment, String message) {
+        return add("urlContains", List.of(fragment), null, message);
+    }
+
+    /**
+     * Title contains the text - accents and case are ignored
+     */
+    public PageChecks titleContains(String text, String message) {
+        return titleContainsAny(List.of(text), message);
+    }
+
+    /**
+     * Title contains at least one of the texts - accents and case are ignored
+     */
+    public PageChecks titleContainsAny(List<String> texts, String message) {
+        return add("titleContainsAny", texts, null, message);
+    }
+
+    /**
+     * Title matches the regular expression (case-insensitive, partial match)
+     */
+    public PageChecks titleMatches(String regex, String message) {
+        return add("titleMatches", List.of(regex), null, message);
+    }
+
+    /**
+     * Page element field is present and visible
+     */
+    public PageChecks visible(String fieldName, String message) {
+        return add("visible", List.of(), specsOf(fieldName), message);
+    }
+
+    /**
+     * Page element field's visible text equals the expected text (trimmed)
+     */
+    public PageChecks textEquals(String fieldName, String expected, String message) {
+        return add("textEquals", List.of(expected), specsOf(fieldName), message);
+    }
+
+    // ===================================
+    // EVALUATION
+    // ===================================
+
+    /**
+     * Evaluate all expectations in one script call and report them as a soft-assert batch
+     *
+     * Failing batches are re-evaluated until the implicit wait budget is used up,
+     * matching the patience of the individual isDisplayed() calls this replaces.
+     */
+    public void verify() {
+        long deadline = System.currentTimeMillis() + ConfigReader.getIntProperty("timeout.implicit", 3) * 1000L;
+        List<?> results = evaluate();
+        while (countFailures(results) > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            results = evaluate();
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            Map<?, ?> result = (Map<?, ?>) results.get(i);
+            boolean passed = Boolean.TRUE.equals(result.get("passed"));
+            LoggerUtil.assertion(messages.get(i), passed);
+            if (!passed) {
+                failures.add(messages.get(i) + " (actual: " + result.get("actual") + ")");
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new AssertionError(page.pageName + " - " + failures.size() + " of " + checks.size() +
+                    " checks failed:\n  " + String.join("\n  ", failures));
+        }
+    }
+
+    /**
+     * Evaluate expectations without asserting or logging - for optional elements
+     *
+     * Returns true as soon as all expectations hold, false once maxWait has
+     * passed. Duration.ZERO makes it a single instant probe.
+     */
+    public boolean holdsWithin(Duration maxWait) {
+        long deadline = System.currentTimeMillis() + maxWait.toMillis();
+        while (countFailures(evaluate()) > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<?> evaluate() {
+        return (List<?>) js.executeScript(CHECK_SCRIPT, checks);
+    }
+
+    private static long countFailures(List<?> results) {
+        return results.stream().filter(result -> !Boolean.TRUE.equals(((Map<?, ?>) result).get("passed"))).count();
+    }
+
+    private PageChecks add(String type, List<String> values, List<Map<String, String>> specs, String message) {
+        Map<String, Object> check = new HashMap<>();
+        check.put("type", type);
+        check.put("values", values);
+        check.put("specs", specs == null ? List.of() : specs);
+        checks.add(check);
+        messages.add(message);
+        return this;
+    }
+
+    private List<Map<String, String>> specsOf(String fieldName) {
+        Field field = findField(fieldName);
+        List<Map<String, String>> specs = new ArrayList<>();
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        if (findBy != null) {
+            specs.add(LocatorSpec.from(findBy).toScriptArg());
+        }
+        FindFirst findFirst = field.getAnnotation(FindFirst.class);
+        if (findFirst != null) {
+            for (FindBy alternative : findFirst.value()) {
+                specs.add(LocatorSpec.from(alternative).toScriptArg());
+            }
+        }
+        if (specs.isEmpty()) {
+            throw new IllegalArgumentException("Field has no locator annotation: " + fieldName);
+        }
+        return specs;
+    }
+
+    private Field findField(String fieldName) {
+        for (Class<?> type = page.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                return type.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                // Continue with superclass
+            }
+        }
+        throw new IllegalArgumentException("No such element field on " + page.pageName + ": " + fieldName);
+    }
+}
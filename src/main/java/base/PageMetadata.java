@@ -0,0 +1,104 @@
+package base;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PageMetadata - Reflective data of a page class, computed once per class
+ *
+ * Holds the locator-annotated element fields (already made accessible) and
+ * the no-arg constructor, so constructing further instances of a page - or
+ * resolving field names for logging - doesn't repeat the reflection.
+ */
+final class PageMetadata {
+
+    private static final ClassValue<PageMetadata> cache = new ClassValue<>() {
+        @Override
+        protected PageMetadata computeValue(Class<?> pageClass) {
+            return new PageMetadata(pageClass);
+        }
+    };
+
+    private final Class<?> pageClass;
+    private final List<Field> locatorFields;
+    private final List<Field> elementFields;
+    private final Constructor<?> constructor;
+
+    private PageMetadata(Class<?> pageClass) {
+        this.pageClass = pageClass;
+        List<Field> locators = new ArrayList<>();
+        List<Field> elements = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !isLocatorField(field)) {
+                    continue;
+                }
+                field.setAccessible(true);
+                locators.add(field);
+                if (field.getType() == WebElement.class) {
+                    elements.add(field);
+                }
+            }
+        }
+        this.locatorFields = Collections.unmodifiableList(locators);
+        this.elementFields = Collections.unmodifiableList(elements);
+        this.constructor = findNoArgConstructor(pageClass);
+    }
+
+    static PageMetadata of(Class<?> pageClass) {
+        return cache.get(pageClass);
+    }
+
+    /** Fields PageFactory would proxy - WebElements, and Lists carrying a locator annotation */
+    List<Field> locatorFields() {
+        return locatorFields;
+    }
+
+    /** Single WebElement fields, used for field-name lookups in logs */
+    List<Field> elementFields() {
+        return elementFields;
+    }
+
+    /**
+     * Create a new instance through the cached no-arg constructor
+     */
+    Object newInstance() {
+        if (constructor == null) {
+            throw new RuntimeException("Page has no no-arg constructor: " + pageClass.getName());
+        }
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create page: " + pageClass.getSimpleName(),
+                    e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private static boolean isLocatorField(Field field) {
+        if (field.getType() == WebElement.class) {
+            return true;
+        }
+        return field.getType() == List.class && (field.isAnnotationPresent(FindBy.class)
+                || field.isAnnotationPresent(FindBys.class) || field.isAnnotationPresent(FindAll.class)
+                || field.isAnnotationPresent(FindFirst.class));
+    }
+
+    private static Constructor<?> findNoArgConstructor(Class<?> pageClass) {
+        try {
+            Constructor<?> noArg = pageClass.getDeclaredConstructor();
+            noArg.setAccessible(true);
+            return noArg;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
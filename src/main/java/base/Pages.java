@@ -0,0 +1,58 @@
+package base;
+
+import factory.DriverFactory;
+import org.openqa.selenium.WebDriver;
+import utils.LoggerUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pages - Lazy page object registry per driver session
+ *
+ * Page objects are built on first use instead of up front, then reused for
+ * the rest of the session. Instances are kept per driver (the driver bound
+ * to the calling thread through DriverContext), so parallel tests and
+ * virtual threads each get their own pages. DriverFactory.quitDriver()
+ * releases the session's pages.
+ *
+ * Usage:
+ * <pre>
+ * Pages.get(HomePage.class).checkHomePageLoaded();
+ * </pre>
+ */
+public final class Pages {
+
+    private static final Map<WebDriver, Map<Class<?>, BasePage>> pagesByDriver = new ConcurrentHashMap<>();
+
+    private Pages() {
+    }
+
+    /**
+     * Get the page object of the current session, creating it on first use
+     */
+    public static <T extends BasePage> T get(Class<T> pageClass) {
+        WebDriver driver = DriverFactory.getDriver();
+        Map<Class<?>, BasePage> pages = pagesByDriver.computeIfAbsent(driver, key -> new ConcurrentHashMap<>());
+        BasePage page = pages.get(pageClass);
+        if (page == null) {
+            // Created outside computeIfAbsent - page constructors may request other pages
+            page = (BasePage) PageMetadata.of(pageClass).newInstance();
+            BasePage existing = pages.putIfAbsent(pageClass, page);
+            if (existing != null) {
+                page = existing;
+            }
+        }
+        return pageClass.cast(page);
+    }
+
+    /**
+     * Release all page objects of a session
+     */
+    public static void clear(WebDriver driver) {
+        Map<Class<?>, BasePage> released = pagesByDriver.remove(driver);
+        if (released != null) {
+            LoggerUtil.debug("Released " + released.size() + " page objects");
+        }
+    }
+}
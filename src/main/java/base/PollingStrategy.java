@@ -0,0 +1,109 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Sleeper;
+import utils.ConfigReader;
+
+import java.time.Duration;
+
+/**
+ * PollingStrategy - How BasePage waits pause between condition checks
+ *
+ * WebDriverWait polls at a fixed interval; each strategy instead supplies a
+ * fresh Sleeper per wait that decides the pause itself:
+ * - fixed:    constant wait.polling.max.ms between polls (WebDriverWait default behaviour)
+ * - backoff:  starts at wait.polling.initial.ms and grows by wait.polling.factor up to wait.polling.max.ms
+ * - mutation: backoff schedule, but each pause ends early on the first DOM mutation
+ *             (MutationObserver held in an async script), so the next poll follows the change
+ *
+ * Selected with wait.polling; pages can override BasePage.pollingStrategy().
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+    /**
+     * Create the sleeper for a single wait - sleepers may keep per-wait state
+     */
+    Sleeper newSleeper(WebDriver driver);
+
+    /**
+     * Strategy configured by wait.polling (fixed, backoff or mutation)
+     */
+    static PollingStrategy fromConfig() {
+        String strategy = ConfigReader.getProperty("wait.polling", "backoff").trim().toLowerCase();
+        return switch (strategy) {
+            case "fixed" -> fixed();
+            case "mutation" -> mutationObserver();
+            default -> backoff();
+        };
+    }
+
+    static PollingStrategy fixed() {
+        long intervalMs = ConfigReader.getIntProperty("wait.polling.max.ms", 500);
+        return driver -> duration -> Sleeper.SYSTEM_SLEEPER.sleep(Duration.ofMillis(intervalMs));
+    }
+
+    static PollingStrategy backoff() {
+        return driver -> new BackoffSleeper();
+    }
+
+    static PollingStrategy mutationObserver() {
+        return MutationSleeper::new;
+    }
+
+    // ===================================
+    // SLEEPERS
+    // ===================================
+
+    /**
+     * Exponentially growing pauses, ignoring the interval WebDriverWait passes in
+     */
+    class BackoffSleeper implements Sleeper {
+
+        private final long maxMs = ConfigReader.getIntProperty("wait.polling.max.ms", 500);
+        private final double factor = Double.parseDouble(ConfigReader.getProperty("wait.polling.factor", "2.0"));
+        private long nextMs = ConfigReader.getIntProperty("wait.polling.initial.ms", 25);
+
+        @Override
+        public void sleep(Duration ignored) throws InterruptedException {
+            long delayMs = nextMs;
+            nextMs = Math.min(maxMs, Math.max(nextMs + 1, (long) (nextMs * factor)));
+            pause(delayMs);
+        }
+
+        protected void pause(long delayMs) throws InterruptedException {
+            Thread.sleep(delayMs);
+        }
+    }
+
+    /**
+     * Backoff pauses that end as soon as the page's DOM changes
+     */
+    class MutationSleeper extends BackoffSleeper {
+
+        private static final String AWAIT_MUTATION_SCRIPT =
+                "var done = arguments[arguments.length - 1], timer;" +
+                "var observer = new MutationObserver(function() { finish(true); });" +
+                "function finish(mutated) { observer.disconnect(); clearTimeout(timer); done(mutated); }" +
+                "observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});" +
+                "timer = setTimeout(function() { finish(false); }, arguments[0]);";
+
+        private final JavascriptExecutor js;
+
+        MutationSleeper(WebDriver driver) {
+            this.js = (JavascriptExecutor) driver;
+        }
+
+        @Override
+        protected void pause(long delayMs) throws InterruptedException {
+            try {
+                js.executeAsyncScript(AWAIT_MUTATION_SCRIPT, delayMs);
+            } catch (WebDriverException e) {
+                // Document unloaded mid-pause (navigation) - fall back to a plain pause
+                super.pause(delayMs);
+            }
+        }
+    }
+}
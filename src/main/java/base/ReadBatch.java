@@ -0,0 +1,155 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ReadBatch - Coalesces read-only page and element queries into one round trip
+ *
+ * Each read registered on the batch returns a typed Key; execute() runs all
+ * of them in a single executeScript call and returns a Result to look the
+ * keys up in. Use it where several consecutive getters (getAttribute,
+ * getTagName, getCurrentUrl, getTitle...) would otherwise each cost an
+ * HTTP round trip.
+ *
+ * Usage:
+ * <pre>
+ * ReadBatch batch = reads();
+ * ReadBatch.Key&lt;String&gt; url = batch.url();
+ * ReadBatch.Key&lt;String&gt; title = batch.title();
+ * ReadBatch.Result page = batch.execute();
+ * page.get(url);
+ * </pre>
+ */
+public class ReadBatch {
+
+    private static final String READ_SCRIPT =
+            "return arguments[0].map(function(read) {" +
+            "  var el = read.element;" +
+            "  switch (read.type) {" +
+            "    case 'url': return window.location.href;" +
+            "    case 'title': return document.title;" +
+            "    case 'readyState': return document.readyState;" +
+            "    case 'attribute': return el.getAttribute(read.name);" +
+            "    case 'property': var value = el[read.name]; return value === undefined ? null : value;" +
+            "    case 'tagName': return el.tagName.toLowerCase();" +
+            "    case 'text': return el.innerText.trim();" +
+            "    case 'displayed':" +
+            "      var style = window.getComputedStyle(el);" +
+            "      return style.display !== 'none' && style.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "  }" +
+            "  return null;" +
+            "});";
+
+    private final JavascriptExecutor js;
+    private final List<Map<String, Object>> reads = new ArrayList<>();
+
+    ReadBatch(JavascriptExecutor js) {
+        this.js = js;
+    }
+
+    // ===================================
+    // PAGE READS
+    // ===================================
+
+    public Key<String> url() {
+        return add("url", null, null, String.class::cast);
+    }
+
+    public Key<String> title() {
+        return add("title", null, null, String.class::cast);
+    }
+
+    public Key<String> readyState() {
+        return add("readyState", null, null, String.class::cast);
+    }
+
+    // ===================================
+    // ELEMENT READS
+    // ===================================
+
+    /** HTML attribute value, null when absent */
+    public Key<String> attribute(WebElement element, String name) {
+        return add("attribute", element, name, String.class::cast);
+    }
+
+    /** DOM property value as string, null when undefined */
+    public Key<String> property(WebElement element, String name) {
+        return add("property", element, name, value -> value == null ? null : String.valueOf(value));
+    }
+
+    /** Lowercase tag name, as WebElement.getTagName() returns for HTML */
+    public Key<String> tagName(WebElement element) {
+        return add("tagName", element, null, String.class::cast);
+    }
+
+    /** Trimmed rendered text */
+    public Key<String> text(WebElement element) {
+        return add("text", element, null, String.class::cast);
+    }
+
+    public Key<Boolean> displayed(WebElement element) {
+        return add("displayed", element, null, Boolean.class::cast);
+    }
+
+    /**
+     * Run all registered reads in one executeScript call
+     */
+    public Result execute() {
+        List<?> values = reads.isEmpty() ? List.of() : (List<?>) js.executeScript(READ_SCRIPT, reads);
+        return new Result(values);
+    }
+
+    private <T> Key<T> add(String type, WebElement element, String name, Function<Object, T> converter) {
+        Map<String, Object> read = new HashMap<>();
+        read.put("type", type);
+        if (element != null) {
+            read.put("element", element);
+        }
+        if (name != null) {
+            read.put("name", name);
+        }
+        reads.add(read);
+        return new Key<>(reads.size() - 1, converter);
+    }
+
+    // ===================================
+    // KEYS AND RESULTS
+    // ===================================
+
+    /**
+     * Typed handle to one read of a batch
+     */
+    public static final class Key<T> {
+
+        private final int index;
+        private final Function<Object, T> converter;
+
+        private Key(int index, Function<Object, T> converter) {
+            this.index = index;
+            this.converter = converter;
+        }
+    }
+
+    /**
+     * Values of an executed batch
+     */
+    public static final class Result {
+
+        private final List<?> values;
+
+        private Result(List<?> values) {
+            this.values = values;
+        }
+
+        public <T> T get(Key<T> key) {
+            return key.converter.apply(values.get(key.index));
+        }
+    }
+}
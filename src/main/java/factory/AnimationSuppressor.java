@@ -0,0 +1,70 @@
+package factory;
+
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AnimationSuppressor - Turns off CSS animations, transitions and smooth scrolling
+ *
+ * Enabled with animations.disabled. Injects a stylesheet into every document
+ * (see DocumentScripts) that zeroes animation/transition durations and forces
+ * instant scrolling, and switches jQuery effects off once the page loads.
+ * On Chromium it also emulates prefers-reduced-motion through CDP, so sites
+ * honouring that media feature skip their motion entirely. Dropdowns,
+ * Select2 lists and scroll targets are then interactable as soon as they render.
+ */
+public final class AnimationSuppressor {
+
+    private static final String SCRIPT_NAME = "animationSuppressor";
+
+    private static final String SUPPRESS_SCRIPT =
+            "var css = '*, *::before, *::after {" +
+            " transition-duration: 0s !important; transition-delay: 0s !important;" +
+            " animation-duration: 0s !important; animation-delay: 0s !important;" +
+            " animation-iteration-count: 1 !important; scroll-behavior: auto !important; }';" +
+            "function apply() {" +
+            "  if (document.getElementById('__noAnimations')) { return true; }" +
+            "  var root = document.head || document.documentElement;" +
+            "  if (!root) { return false; }" +
+            "  var style = document.createElement('style');" +
+            "  style.id = '__noAnimations';" +
+            "  style.textContent = css;" +
+            "  root.appendChild(style);" +
+            "  return true;" +
+            "}" +
+            "if (!apply()) {" +
+            "  new MutationObserver(function(mutations, observer) { if (apply()) { observer.disconnect(); } })" +
+            "    .observe(document, {childList: true});" +
+            "}" +
+            "function jQueryEffectsOff() { apply(); if (window.jQuery && window.jQuery.fx) { window.jQuery.fx.off = true; } }" +
+            "if (document.readyState === 'loading') {" +
+            "  document.addEventListener('DOMContentLoaded', jQueryEffectsOff);" +
+            "} else {" +
+            "  jQueryEffectsOff();" +
+            "}";
+
+    private AnimationSuppressor() {
+    }
+
+    /**
+     * Check if animation suppression is enabled (animations.disabled)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("animations.disabled", true);
+    }
+
+    /**
+     * Suppress animations in all documents of the session
+     */
+    public static void install(WebDriver driver) {
+        DocumentScripts.register(driver, SCRIPT_NAME, SUPPRESS_SCRIPT);
+        boolean reducedMotion = DocumentScripts.registerCdpCommand(driver, "Emulation.setEmulatedMedia",
+                Map.of("features", List.of(Map.of("name", "prefers-reduced-motion", "value", "reduce"))));
+        LoggerUtil.info("Animations, transitions and smooth scrolling disabled" +
+                (reducedMotion ? " (prefers-reduced-motion emulated)" : ""));
+    }
+}
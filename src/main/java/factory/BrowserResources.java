@@ -0,0 +1,129 @@
+package factory;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import utils.ConfigReader;
+import utils.EventStream;
+import utils.LoggerUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * BrowserResources - Memory and DOM growth of a browser session
+ *
+ * Samples JS heap, DOM nodes, event listeners and layout count through CDP
+ * Performance.getMetrics; drivers without CDP fall back to a script
+ * (performance.memory and a DOM node count - listeners and layouts are not
+ * available there). Samples are recorded as "resources" events. A session
+ * over any resources.max.* threshold is reported as exhausted:
+ * DriverFactory.releaseDriver() then quits it instead of keeping it for the
+ * next test (driver.reuse), which launches a fresh one.
+ */
+public final class BrowserResources {
+
+    /**
+     * One resource sample - counts, heap in bytes; -1 when not available
+     */
+    public record Sample(long heapBytes, long nodes, long listeners, long layouts) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "heap=%.1fMB nodes=%d listeners=%d layouts=%d",
+                    heapBytes / (1024.0 * 1024.0), nodes, listeners, layouts);
+        }
+    }
+
+    private static final String FALLBACK_SCRIPT =
+            "return {heap: performance.memory ? performance.memory.usedJSHeapSize : -1," +
+            "  nodes: document.getElementsByTagName('*').length};";
+
+    private static final Set<WebDriver> cdpEnabled = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private BrowserResources() {
+    }
+
+    /**
+     * Check if resource sampling is enabled (resources.monitor)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("resources.monitor", true);
+    }
+
+    /**
+     * Sample the session's resource usage and record it as an event - null when sampling failed
+     */
+    public static Sample sample(WebDriver driver) {
+        Sample sample = driver instanceof HasCdp ? sampleCdp(driver) : null;
+        if (sample == null) {
+            sample = sampleScript(driver);
+        }
+        if (sample != null) {
+            EventStream.record("resources", sample.toString());
+            LoggerUtil.debug("Browser resources: " + sample);
+        }
+        return sample;
+    }
+
+    /**
+     * Thresholds the sample exceeds (resources.max.heap.mb, .nodes, .listeners, .layouts) - empty when healthy
+     */
+    public static List<String> exceededThresholds(Sample sample) {
+        List<String> exceeded = new ArrayList<>();
+        long maxHeapMb = ConfigReader.getIntProperty("resources.max.heap.mb", 512);
+        if (maxHeapMb > 0 && sample.heapBytes() > maxHeapMb * 1024 * 1024) {
+            exceeded.add("heap > " + maxHeapMb + "MB");
+        }
+        checkThreshold(exceeded, "nodes", sample.nodes());
+        checkThreshold(exceeded, "listeners", sample.listeners());
+        checkThreshold(exceeded, "layouts", sample.layouts());
+        return exceeded;
+    }
+
+    private static void checkThreshold(List<String> exceeded, String metric, long value) {
+        int max = ConfigReader.getIntProperty("resources.max." + metric, 0);
+        if (max > 0 && value > max) {
+            exceeded.add(metric + " > " + max);
+        }
+    }
+
+    private static Sample sampleCdp(WebDriver driver) {
+        HasCdp cdp = (HasCdp) driver;
+        try {
+            synchronized (cdpEnabled) {
+                if (cdpEnabled.add(driver)) {
+                    cdp.executeCdpCommand("Performance.enable", Map.of());
+                }
+            }
+            Map<String, Object> response = cdp.executeCdpCommand("Performance.getMetrics", Map.of());
+            Map<String, Long> metrics = new LinkedHashMap<>();
+            for (Object item : (List<?>) response.get("metrics")) {
+                Map<?, ?> metric = (Map<?, ?>) item;
+                metrics.put(String.valueOf(metric.get("name")), ((Number) metric.get("value")).longValue());
+            }
+            return new Sample(metrics.getOrDefault("JSHeapUsedSize", -1L), metrics.getOrDefault("Nodes", -1L),
+                    metrics.getOrDefault("JSEventListeners", -1L), metrics.getOrDefault("LayoutCount", -1L));
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            LoggerUtil.debug("CDP performance metrics unavailable: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Sample sampleScript(WebDriver driver) {
+        try {
+            Map<?, ?> values = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(FALLBACK_SCRIPT);
+            return new Sample(((Number) values.get("heap")).longValue(), ((Number) values.get("nodes")).longValue(), -1, -1);
+        } catch (WebDriverException e) {
+            LoggerUtil.debug("Browser resources not sampled: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package factory;
+
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CdpNetworkRecorder - Network requests of a Chromium session from CDP Network.* events
+ *
+ * Listens to requestWillBeSent, responseReceived, dataReceived,
+ * loadingFinished and loadingFailed on the session's DevTools connection,
+ * so method, status, headers, sizes and phase timings are exact for every
+ * request, including cross-origin ones. Finished requests are numbered in arrival order; a
+ * capture window is the range of numbers between two marks, so marking and
+ * reading cost no browser round trip. Keeps at most network.capture.buffer
+ * finished requests.
+ */
+final class CdpNetworkRecorder {
+
+    /** One finished (or failed) request as a HAR entry, numbered in finishing order */
+    record Request(long sequence, double time, Map<String, Object> harEntry) {
+    }
+
+    private final int bufferSize;
+    private final Map<String, Map<String, Object>> pending = new HashMap<>();
+    private final Deque<Request> finished = new ArrayDeque<>();
+    private long sequence;
+
+    private CdpNetworkRecorder(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Start recording on a DevTools connection
+     */
+    static CdpNetworkRecorder start(DevTools devTools, int bufferSize) {
+        CdpNetworkRecorder recorder = new CdpNetworkRecorder(bufferSize);
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(event("Network.requestWillBeSent"), recorder::requestWillBeSent);
+        devTools.addListener(event("Network.responseReceived"), recorder::responseReceived);
+        devTools.addListener(event("Network.dataReceived"), recorder::dataReceived);
+        devTools.addListener(event("Network.loadingFinished"), params -> recorder.finish(params, null));
+        devTools.addListener(event("Network.loadingFailed"), params -> recorder.finish(params, String.valueOf(params.get("errorText"))));
+        devTools.send(new Command<Void>("Network.enable", Map.of()));
+        return recorder;
+    }
+
+    /**
+     * Number of the last finished request - marks the start of a capture window
+     */
+    synchronized long mark() {
+        return sequence;
+    }
+
+    /**
+     * Requests finished after the mark, slowest first, at most top of them
+     */
+    synchronized List<Map<String, Object>> slowestSince(long mark, int top) {
+        List<Request> requests = new ArrayList<>();
+        for (Request request : finished) {
+            if (request.sequence() > mark) {
+                requests.add(request);
+            }
+        }
+        requests.sort((a, b) -> Double.compare(b.time(), a.time()));
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Request request : requests.subList(0, Math.min(top, requests.size()))) {
+            entries.add(request.harEntry());
+        }
+        return entries;
+    }
+
+    private synchronized void requestWillBeSent(Map<String, Object> params) {
+        Object redirect = params.get("redirectResponse");
+        String requestId = String.valueOf(params.get("requestId"));
+        if (redirect instanceof Map<?, ?> response && pending.containsKey(requestId)) {
+            // A redirect reuses the request id - finish the redirected hop first
+            Map<String, Object> hop = pending.get(requestId);
+            hop.put("response", response);
+            complete(hop, number(params.get("timestamp")), null);
+        }
+        pending.put(requestId, new LinkedHashMap<>(params));
+    }
+
+    private synchronized void responseReceived(Map<String, Object> params) {
+        Map<String, Object> request = pending.get(String.valueOf(params.get("requestId")));
+        if (request != null) {
+            request.put("response", params.get("response"));
+        }
+    }
+
+    private synchronized void dataReceived(Map<String, Object> params) {
+        Map<String, Object> request = pending.get(String.valueOf(params.get("requestId")));
+        if (request != null && params.get("dataLength") instanceof Number length) {
+            request.merge("dataLength", length.longValue(), (total, more) -> (Long) total + (Long) more);
+        }
+    }
+
+    private synchronized void finish(Map<String, Object> params, String errorText) {
+        Map<String, Object> request = pending.remove(String.valueOf(params.get("requestId")));
+        if (request != null) {
+            request.put("encodedDataLength", params.get("encodedDataLength"));
+            complete(request, number(params.get("timestamp")), errorText);
+        }
+    }
+
+    private void complete(Map<String, Object> request, Double endTimestamp, String errorText) {
+        Map<String, Object> entry = NetworkCapture.harEntryFromCdp(request, endTimestamp, errorText);
+        finished.addLast(new Request(++sequence, ((Number) entry.get("time")).doubleValue(), entry));
+        while (finished.size() > bufferSize) {
+            finished.removeFirst();
+        }
+    }
+
+    private static Double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
@@ -0,0 +1,163 @@
+package factory;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import utils.ConfigReader;
+import utils.LatencyHistogram;
+import utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * CommandMetrics - WebDriver command counts and latencies
+ *
+ * Enabled with driver.metrics=true: DriverFactory decorates every driver with
+ * a CommandMetricsListener. Latencies are kept per test (LoggerUtil test id)
+ * and per command type in LatencyHistograms (microseconds), and attributed
+ * to the calling page object method so round-trip-heavy page objects stand
+ * out. The summary is written to report.path at suite end.
+ */
+public final class CommandMetrics {
+
+    private static final String REPORT_FILE = "command-metrics.txt";
+    private static final String NO_TEST = "(outside test)";
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    private static final Map<String, Map<String, LatencyHistogram>> histogramsByTest = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> errorsByCommand = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> histogramsByPageMethod = new ConcurrentHashMap<>();
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Check if command metrics are enabled (driver.metrics)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("driver.metrics", false);
+    }
+
+    /**
+     * Wrap a driver so all its commands are counted and timed
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        LoggerUtil.info("WebDriver command metrics enabled");
+        return new EventFiringDecorator<>(new CommandMetricsListener()).decorate(driver);
+    }
+
+    /**
+     * Record one command round trip
+     */
+    static void record(String command, long micros, boolean failed) {
+        String testId = LoggerUtil.currentTestId();
+        histogramsByTest.computeIfAbsent(testId != null ? testId : NO_TEST, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(command, key -> new LatencyHistogram())
+                .record(micros);
+        if (failed) {
+            errorsByCommand.computeIfAbsent(command, key -> new LongAdder()).increment();
+        }
+        String pageMethod = callingPageMethod();
+        if (pageMethod != null) {
+            histogramsByPageMethod.computeIfAbsent(pageMethod, key -> new LatencyHistogram()).record(micros);
+        }
+    }
+
+    /**
+     * Find the innermost page object method on the call stack
+     */
+    private static String callingPageMethod() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("pages."))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring("pages.".length()) + "." + frame.getMethodName()
+                        .replaceFirst("^lambda\\$", "")
+                        .replaceFirst("(_aroundBody\\d+|\\$\\d+)$", ""))
+                .orElse(null));
+    }
+
+    // ===================================
+    // REPORTING
+    // ===================================
+
+    /**
+     * Log command count and time of one test
+     */
+    public static void logTestSummary(String testId) {
+        Map<String, LatencyHistogram> histograms = histogramsByTest.get(testId);
+        if (histograms == null) {
+            return;
+        }
+        long commands = histograms.values().stream().mapToLong(LatencyHistogram::getCount).sum();
+        long totalMicros = histograms.values().stream().mapToLong(LatencyHistogram::getTotal).sum();
+        String top = histograms.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> entry) ->
+                        entry.getValue().getCount()).reversed())
+                .limit(5)
+                .map(entry -> entry.getKey() + " x" + entry.getValue().getCount())
+                .collect(Collectors.joining(", "));
+        LoggerUtil.info("WebDriver commands: " + commands + " in " + totalMicros / 1_000 + "ms (" + top + ")");
+    }
+
+    /**
+     * Write the suite summary to report.path
+     */
+    public static void writeReport() {
+        if (histogramsByTest.isEmpty()) {
+            return;
+        }
+        String report = buildReport();
+        Path reportFile = Paths.get(ConfigReader.getProperty("report.path", "target/reports/"), REPORT_FILE);
+        try {
+            Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+            LoggerUtil.info("WebDriver command metrics written to: " + reportFile);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write command metrics report", e);
+        }
+        LoggerUtil.info(report);
+    }
+
+    /**
+     * Build report - latency per command, commands per test, and heaviest page object methods
+     */
+    public static String buildReport() {
+        Map<String, LatencyHistogram> suite = new TreeMap<>();
+        histogramsByTest.values().forEach(histograms -> histograms.forEach((command, histogram) ->
+                suite.computeIfAbsent(command, key -> new LatencyHistogram()).add(histogram)));
+
+        StringBuilder report = new StringBuilder();
+        report.append("📊 WEBDRIVER COMMAND METRICS - ").append(histogramsByTest.size()).append(" tests\n");
+        report.append(String.format("%-28s %7s %6s %10s %9s %9s %9s %9s%n",
+                "Command", "Count", "Errors", "Total(ms)", "Mean(ms)", "P50(ms)", "P95(ms)", "Max(ms)"));
+        suite.forEach((command, histogram) -> report.append(String.format("%-28s %7d %6d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                command, histogram.getCount(),
+                errorsByCommand.getOrDefault(command, new LongAdder()).sum(),
+                histogram.getTotal() / 1_000.0, histogram.getMean() / 1_000.0,
+                histogram.getValueAtPercentile(50) / 1_000.0, histogram.getValueAtPercentile(95) / 1_000.0,
+                histogram.getMax() / 1_000.0)));
+
+        report.append("\nCommands per test:\n");
+        new TreeMap<>(histogramsByTest).forEach((testId, histograms) -> report.append(String.format("  %-60s %7d %10.1fms%n",
+                testId,
+                histograms.values().stream().mapToLong(LatencyHistogram::getCount).sum(),
+                histograms.values().stream().mapToLong(LatencyHistogram::getTotal).sum() / 1_000.0)));
+
+        report.append("\nPage object methods by round trips:\n");
+        histogramsByPageMethod.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> entry) ->
+                        entry.getValue().getCount()).reversed())
+                .forEach(entry -> report.append(String.format("  %-60s %7d %10.1fms%n",
+                        entry.getKey(), entry.getValue().getCount(), entry.getValue().getTotal() / 1_000.0)));
+        return report.toString();
+    }
+}
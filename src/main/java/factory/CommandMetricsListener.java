@@ -0,0 +1,57 @@
+package factory;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * CommandMetricsListener - Times every WebDriver command of one session
+ *
+ * Attached through EventFiringDecorator when driver.metrics=true. Sees
+ * calls on the driver and on everything it hands out (elements, navigation,
+ * target locator...), and reports each command's round trip to CommandMetrics.
+ * One listener per driver and a session is driven by one thread at a time,
+ * so the timing stack is a plain field rather than a ThreadLocal.
+ */
+class CommandMetricsListener implements WebDriverListener {
+
+    /** Accessors resolved locally without a round trip to the browser */
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "timeouts", "window", "switchTo", "navigate", "logs",
+            "getWrappedDriver", "getWrappedElement", "getId", "getCoordinates");
+
+    private final Deque<Long> startTimes = new ArrayDeque<>();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isCommand(method)) {
+            startTimes.push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        complete(method, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        complete(method, true);
+    }
+
+    private void complete(Method method, boolean failed) {
+        if (!isCommand(method) || startTimes.isEmpty()) {
+            return;
+        }
+        long micros = (System.nanoTime() - startTimes.pop()) / 1_000;
+        CommandMetrics.record(method.getName(), micros, failed);
+    }
+
+    private static boolean isCommand(Method method) {
+        return method.getDeclaringClass() != Object.class && !LOCAL_CALLS.contains(method.getName());
+    }
+}
@@ -0,0 +1,140 @@
+package factory;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import utils.LoggerUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * DocumentScripts - Scripts that run in every document a session loads
+ *
+ * On Chromium drivers scripts are registered once per tab through CDP
+ * Page.addScriptToEvaluateOnNewDocument, so every later document runs them
+ * before its own scripts at no extra round trip. Other drivers fall back to
+ * re-injecting after framework navigations and clicks (reapply). Each script
+ * runs at most once per document, guarded by its name. Per-tab CDP settings
+ * (registerCdpCommand) are replayed for tabs installed later.
+ */
+public final class DocumentScripts {
+
+    private static final Map<WebDriver, Registration> registrations = new WeakHashMap<>();
+
+    private DocumentScripts() {
+    }
+
+    /**
+     * Register a script for all future documents of the session and run it in the current one
+     */
+    public static void register(WebDriver driver, String name, String source) {
+        Registration registration;
+        synchronized (registrations) {
+            registration = registrations.computeIfAbsent(driver, key -> new Registration(driver instanceof HasCdp));
+            registration.scripts.put(name, guarded(name, source));
+        }
+        if (registration.cdp) {
+            registration.cdp = addToNewDocuments(driver, registration.scripts.get(name));
+        }
+        run(driver, registration.scripts.get(name));
+        LoggerUtil.debug("Document script registered: " + name + (registration.cdp ? " (CDP)" : " (re-injected)"));
+    }
+
+    /**
+     * Run a CDP command now and again for every tab installed later - false when CDP is unavailable
+     */
+    public static boolean registerCdpCommand(WebDriver driver, String command, Map<String, Object> params) {
+        if (!(driver instanceof HasCdp)) {
+            return false;
+        }
+        synchronized (registrations) {
+            registrations.computeIfAbsent(driver, key -> new Registration(true)).cdpCommands.put(command, params);
+        }
+        return executeCdp(driver, command, params);
+    }
+
+    /**
+     * Re-inject scripts into the current document on drivers without CDP - no-op otherwise
+     */
+    public static void reapply(WebDriver driver) {
+        Registration registration = registrationOf(driver);
+        if (registration == null || registration.cdp) {
+            return;
+        }
+        run(driver, String.join("\n", registration.scripts.values()));
+    }
+
+    /**
+     * Install all scripts and CDP settings in the window just switched to (new tabs have their own CDP target)
+     */
+    public static void installInCurrentWindow(WebDriver driver) {
+        Registration registration = registrationOf(driver);
+        if (registration == null) {
+            return;
+        }
+        registration.cdpCommands.forEach((command, params) -> executeCdp(driver, command, params));
+        if (registration.scripts.isEmpty()) {
+            return;
+        }
+        String all = String.join("\n", registration.scripts.values());
+        if (registration.cdp) {
+            registration.cdp = addToNewDocuments(driver, all);
+        }
+        run(driver, all);
+    }
+
+    private static Registration registrationOf(WebDriver driver) {
+        synchronized (registrations) {
+            return registrations.get(driver);
+        }
+    }
+
+    private static boolean addToNewDocuments(WebDriver driver, String source) {
+        if (executeCdp(driver, "Page.addScriptToEvaluateOnNewDocument", Map.of("source", source))) {
+            return true;
+        }
+        LoggerUtil.warn("CDP unavailable, document scripts will be re-injected after navigations");
+        return false;
+    }
+
+    private static boolean executeCdp(WebDriver driver, String command, Map<String, Object> params) {
+        try {
+            ((HasCdp) driver).executeCdpCommand(command, params);
+            return true;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            LoggerUtil.debug("CDP command " + command + " failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void run(WebDriver driver, String source) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(source);
+        } catch (WebDriverException e) {
+            LoggerUtil.debug("Document script not applied to current document: " + e.getMessage());
+        }
+    }
+
+    private static String guarded(String name, String source) {
+        return "(function() {" +
+                "  var registry = window.__documentScripts = window.__documentScripts || {};" +
+                "  if (registry['" + name + "']) { return; }" +
+                "  registry['" + name + "'] = true;" +
+                source +
+                "})();";
+    }
+
+    private static final class Registration {
+
+        private final Map<String, String> scripts = new LinkedHashMap<>();
+        private final Map<String, Map<String, Object>> cdpCommands = new LinkedHashMap<>();
+        private volatile boolean cdp;
+
+        private Registration(boolean cdp) {
+            this.cdp = cdp;
+        }
+    }
+}
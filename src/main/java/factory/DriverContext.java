@@ -0,0 +1,102 @@
+package factory;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DriverContext - WebDriver holder for platform and virtual threads
+ *
+ * The current thread's session lives in a ThreadLocal, which works the same
+ * on virtual threads (each virtual thread has its own values, independent
+ * of its carrier) and lets bindings go away with their threads. Sessions
+ * are also kept in a registry of live sessions, which:
+ * - gives a snapshot of every live session for suite-level cleanup
+ * - lets a session be handed to another thread for a scoped call (callWith)
+ *
+ * The registry holds sessions, not threads; bindings must be released with
+ * unbind() - DriverFactory.quitDriver() does this. A binding whose session
+ * was released elsewhere (unbindAll) reads as no session.
+ */
+public final class DriverContext {
+
+    private static final ThreadLocal<WebDriver> currentDriver = new ThreadLocal<>();
+    private static final Set<WebDriver> liveDrivers = ConcurrentHashMap.newKeySet();
+
+    private DriverContext() {
+    }
+
+    /**
+     * Bind driver to the current thread
+     */
+    public static void bind(WebDriver driver) {
+        liveDrivers.add(driver);
+        currentDriver.set(driver);
+    }
+
+    /**
+     * Get driver bound to the current thread, or null
+     */
+    public static WebDriver current() {
+        WebDriver driver = currentDriver.get();
+        if (driver != null && !liveDrivers.contains(driver)) {
+            currentDriver.remove();
+            return null;
+        }
+        return driver;
+    }
+
+    /**
+     * Release the current thread's driver binding
+     */
+    public static void unbind() {
+        WebDriver driver = currentDriver.get();
+        if (driver != null) {
+            liveDrivers.remove(driver);
+        }
+        currentDriver.remove();
+    }
+
+    /**
+     * Release all driver bindings - used after quitting every session at suite end
+     */
+    public static void unbindAll() {
+        liveDrivers.clear();
+        currentDriver.remove();
+    }
+
+    /**
+     * Run a call with the given live driver bound to the current thread, restoring the previous binding afterwards
+     */
+    public static <T> T callWith(WebDriver driver, Callable<T> call) throws Exception {
+        WebDriver previous = currentDriver.get();
+        currentDriver.set(driver);
+        try {
+            return call.call();
+        } finally {
+            if (previous != null) {
+                currentDriver.set(previous);
+            } else {
+                currentDriver.remove();
+            }
+        }
+    }
+
+    /**
+     * Snapshot of all live drivers
+     */
+    public static List<WebDriver> allDrivers() {
+        return new ArrayList<>(liveDrivers);
+    }
+
+    /**
+     * Number of live drivers
+     */
+    public static int size() {
+        return liveDrivers.size();
+    }
+}
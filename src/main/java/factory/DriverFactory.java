@@ -1,7 +1,11 @@
 package factory;
 
+import base.DomChangeTracker;
+import base.Pages;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
@@ -9,6 +13,7 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
 import utils.ConfigReader;
 import utils.LoggerUtil;
 
@@ -16,8 +21,13 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * DriverFactory - WebDriver Management Hub
@@ -25,22 +35,84 @@ import java.util.Map;
  * Handles:
  * - Local and Remote WebDriver creation
  * - Browser-specific configurations
- * - Thread-safe driver management
+ * - Thread-safe driver management (platform and virtual threads, see DriverContext)
  * - Automatic driver cleanup
+ * - Multiple tabs within one browser session
+ * - Optional command latency metrics (driver.metrics, see CommandMetrics)
+ * - Automatic interstitial dismissal (see InterstitialWatcher)
+ * - Optional animation and transition suppression (see AnimationSuppressor)
+ * - Web vitals collection on every document (see WebVitals)
+ * - Per-step network waterfall attachments (see NetworkCapture)
+ * - Browser resource sampling and session recycling (see BrowserResources)
+ * - Optional session reuse across tests with a fast state reset (driver.reuse, see SessionReset)
+ * - Browser pre-launch overlapping suite setup (driver.prelaunch, see WarmSessionPool)
+ * - Prefetching of the next journey page (see JourneyPrefetcher)
  */
 public class DriverFactory {
     
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
-    
     // Browser types
     public enum BrowserType {
         CHROME, FIREFOX, EDGE
     }
     
+    // -Dbrowser/-Dheadless as given at startup - these win over test parameters
+    private static final Map<String, String> EXPLICIT_BROWSER_SETTINGS = explicitSettings("browser", "headless");
+    
     /**
      * Initialize WebDriver based on configuration
      */
     public static void initializeDriver() {
+        if (isReuseEnabled() && isDriverInitialized()) {
+            LoggerUtil.info("Reusing browser session from previous test");
+            return;
+        }
+        
+        WebDriver driver = WarmSessionPool.take();
+        if (driver != null) {
+            LoggerUtil.info("Using pre-launched browser session");
+        } else {
+            driver = launchSession();
+        }
+        DriverContext.bind(driver);
+        
+        LoggerUtil.info("WebDriver initialized successfully: " + getCurrentBrowser());
+    }
+    
+    /**
+     * Configuration overrides for browser/headless test or suite parameters
+     * 
+     * Meant for ConfigReader.setThreadOverrides, so each test uses its own
+     * parameters. Blank parameters are left out, and so are keys set
+     * explicitly as system properties at startup (-Dbrowser, -Dheadless),
+     * which win over parameters.
+     */
+    public static Map<String, String> browserParameters(String browser, String headless) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        addParameter(overrides, "browser", browser);
+        addParameter(overrides, "headless", headless);
+        return overrides;
+    }
+    
+    private static Map<String, String> explicitSettings(String... keys) {
+        Map<String, String> settings = new HashMap<>();
+        for (String key : keys) {
+            if (System.getProperty(key) != null) {
+                settings.put(key, System.getProperty(key));
+            }
+        }
+        return settings;
+    }
+    
+    private static void addParameter(Map<String, String> overrides, String key, String value) {
+        if (value != null && !value.isBlank() && !EXPLICIT_BROWSER_SETTINGS.containsKey(key)) {
+            overrides.put(key, value);
+        }
+    }
+    
+    /**
+     * Launch and configure a new session without binding it to the current thread
+     */
+    public static WebDriver launchSession() {
         String browser = ConfigReader.getProperty("browser", "chrome").toLowerCase();
         String environment = ConfigReader.getProperty("environment", "local").toLowerCase();
         
@@ -55,9 +127,51 @@ public class DriverFactory {
         }
         
         configureDriver(driver);
-        driverThreadLocal.set(driver);
+        if (CommandMetrics.isEnabled()) {
+            driver = CommandMetrics.decorate(driver);
+        }
+        SessionReset.rememberInitialState(driver);
         
-        LoggerUtil.info("WebDriver initialized successfully: " + browser);
+        if (AnimationSuppressor.isEnabled()) {
+            AnimationSuppressor.install(driver);
+        }
+        if (InterstitialWatcher.isEnabled()) {
+            InterstitialWatcher.install(driver);
+        }
+        if (WebVitals.isEnabled()) {
+            WebVitals.install(driver);
+        }
+        if (NetworkCapture.isEnabled()) {
+            NetworkCapture.install(driver);
+        }
+        if (JourneyPrefetcher.isEnabled()) {
+            JourneyPrefetcher.install(driver);
+        }
+        return driver;
+    }
+    
+    /**
+     * Load the base URL in a session that isn't bound yet (pre-launched sessions)
+     */
+    static void loadBaseUrl(WebDriver driver) {
+        SessionReset.recordVisit(driver, ConfigReader.getBaseUrl());
+        driver.get(ConfigReader.getBaseUrl());
+        DocumentScripts.reapply(driver);
+    }
+    
+    /**
+     * Check if the current session already shows the given URL (ignoring a trailing slash)
+     */
+    public static boolean isAtUrl(String url) {
+        if (!isDriverInitialized()) {
+            return false;
+        }
+        String current = getDriver().getCurrentUrl();
+        return current != null && stripTrailingSlash(current).equals(stripTrailingSlash(url));
+    }
+    
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
     }
     
     /**
@@ -235,7 +349,7 @@ public class DriverFactory {
      * Get current WebDriver instance
      */
     public static WebDriver getDriver() {
-        WebDriver driver = driverThreadLocal.get();
+        WebDriver driver = DriverContext.current();
         if (driver == null) {
             LoggerUtil.error("WebDriver not initialized! Call initializeDriver() first.");
             throw new RuntimeException("WebDriver not initialized");
@@ -247,14 +361,14 @@ public class DriverFactory {
      * Check if driver is initialized
      */
     public static boolean isDriverInitialized() {
-        return driverThreadLocal.get() != null;
+        return DriverContext.current() != null;
     }
     
     /**
      * Quit driver and clean up
      */
     public static void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
+        WebDriver driver = DriverContext.current();
         if (driver != null) {
             try {
                 driver.quit();
@@ -262,9 +376,54 @@ public class DriverFactory {
             } catch (Exception e) {
                 LoggerUtil.error("Error during driver quit", e);
             } finally {
-                driverThreadLocal.remove();
+                Pages.clear(driver);
+                DriverContext.unbind();
+            }
+        }
+    }
+    
+    /**
+     * Check if sessions are kept and reset between tests instead of relaunched (driver.reuse)
+     */
+    public static boolean isReuseEnabled() {
+        return ConfigReader.getBooleanProperty("driver.reuse", false);
+    }
+    
+    /**
+     * Release the current session at the end of a test
+     * 
+     * With driver.reuse the session is reset and kept for the next test on this
+     * thread; it is quit instead when it is over a resource threshold or the
+     * reset could not be verified.
+     */
+    public static void releaseDriver() {
+        WebDriver driver = DriverContext.current();
+        if (driver == null) {
+            return;
+        }
+        BrowserResources.Sample sample = sampleResources();
+        if (isReuseEnabled() && !isExhausted(sample) && SessionReset.reset(driver)) {
+            Pages.clear(driver);
+            DomChangeTracker.navigationOccurred(driver);
+            return;
+        }
+        quitDriver();
+    }
+    
+    /**
+     * Quit every session still open - kept sessions of driver.reuse are released at suite end
+     */
+    public static void quitAllDrivers() {
+        for (WebDriver driver : DriverContext.allDrivers()) {
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                LoggerUtil.error("Error during driver quit", e);
+            } finally {
+                Pages.clear(driver);
             }
         }
+        DriverContext.unbindAll();
     }
     
     /**
@@ -273,7 +432,11 @@ public class DriverFactory {
     public static void navigateToUrl(String url) {
         try {
             WebDriver driver = getDriver();
+            WebVitals.capture(driver);
+            SessionReset.recordVisit(driver, url);
             driver.get(url);
+            DomChangeTracker.navigationOccurred(driver);
+            DocumentScripts.reapply(driver);
             LoggerUtil.info("Navigated to: " + url);
             
             // Wait for page load
@@ -285,6 +448,133 @@ public class DriverFactory {
         }
     }
     
+    // ===================================
+    // RESOURCE MONITORING
+    // ===================================
+    
+    /**
+     * Sample the current session's resource usage - null when disabled or not available
+     */
+    public static BrowserResources.Sample sampleResources() {
+        if (!BrowserResources.isEnabled() || !isDriverInitialized()) {
+            return null;
+        }
+        return BrowserResources.sample(getDriver());
+    }
+    
+    /**
+     * Check if a sampled session exceeds a resource threshold and should not be reused
+     */
+    private static boolean isExhausted(BrowserResources.Sample sample) {
+        if (sample == null) {
+            return false;
+        }
+        List<String> exceeded = BrowserResources.exceededThresholds(sample);
+        if (exceeded.isEmpty()) {
+            return false;
+        }
+        LoggerUtil.warn("Recycling browser session (" + String.join(", ", exceeded) + "): " + sample);
+        return true;
+    }
+    
+    // ===================================
+    // MULTI-TAB SUPPORT
+    // ===================================
+    
+    /**
+     * Run independent validations in separate tabs of the current session
+     * 
+     * All tabs are opened and their navigations started first, so the browser
+     * loads the pages concurrently. WebDriver serializes commands per session,
+     * so each validation then runs on its own tab after switching to it.
+     * A URL already loaded in the current tab is validated there instead of
+     * in a new tab, while the other tabs load. Failures are collected and
+     * reported together; the original tab is restored afterwards.
+     */
+    public static void runInTabs(Map<String, Runnable> validationsByUrl) {
+        runInTabs(validationsByUrl, null);
+    }
+    
+    /**
+     * Run independent validations in separate tabs, then continue in the tab of continueUrl
+     * 
+     * Like runInTabs(Map), but the tab validated for continueUrl is kept as
+     * the working tab and all others, the original one included, are closed -
+     * so a page the journey goes on with is not loaded a second time. A null
+     * continueUrl restores the original tab.
+     */
+    public static void runInTabs(Map<String, Runnable> validationsByUrl, String continueUrl) {
+        WebDriver driver = getDriver();
+        String originalHandle = driver.getWindowHandle();
+        Map<String, String> handlesByUrl = new LinkedHashMap<>();
+        List<String> failures = new ArrayList<>();
+        
+        try {
+            for (String url : validationsByUrl.keySet()) {
+                handlesByUrl.put(url, isAtUrl(url) ? originalHandle : openTab(driver, url));
+            }
+            
+            for (Map.Entry<String, String> tab : handlesByUrl.entrySet()) {
+                if (!tab.getValue().equals(originalHandle)) {
+                    driver.switchTo().window(tab.getValue());
+                    DomChangeTracker.navigationOccurred(driver);
+                    waitForDocumentReady(driver);
+                    DocumentScripts.installInCurrentWindow(driver);
+                }
+                LoggerUtil.info("Validating tab: " + tab.getKey());
+                try {
+                    validationsByUrl.get(tab.getKey()).run();
+                } catch (AssertionError | RuntimeException e) {
+                    LoggerUtil.error("Tab validation failed for " + tab.getKey() + " - Error: " + e.getMessage());
+                    failures.add(tab.getKey() + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            String workingHandle = handlesByUrl.getOrDefault(continueUrl, originalHandle);
+            Set<String> tabsToClose = new LinkedHashSet<>(handlesByUrl.values());
+            tabsToClose.add(originalHandle);
+            tabsToClose.remove(workingHandle);
+            for (String handle : tabsToClose) {
+                try {
+                    driver.switchTo().window(handle).close();
+                } catch (Exception e) {
+                    LoggerUtil.warn("Could not close tab: " + handle);
+                }
+            }
+            driver.switchTo().window(workingHandle);
+            DomChangeTracker.navigationOccurred(driver);
+        }
+        
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " of " + validationsByUrl.size() +
+                    " tab validations failed:\n  " + String.join("\n  ", failures));
+        }
+    }
+    
+    /**
+     * Open a new tab and start loading the URL without waiting for it
+     */
+    public static String openTab(WebDriver driver, String url) {
+        String originalHandle = driver.getWindowHandle();
+        driver.switchTo().newWindow(WindowType.TAB);
+        String handle = driver.getWindowHandle();
+        SessionReset.recordVisit(driver, url);
+        // Assigning location returns immediately, unlike driver.get()
+        ((JavascriptExecutor) driver).executeScript("window.location.href = arguments[0];", url);
+        driver.switchTo().window(originalHandle);
+        LoggerUtil.info("Opened tab " + handle + " loading: " + url);
+        return handle;
+    }
+    
+    private static void waitForDocumentReady(WebDriver driver) {
+        new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getPageLoadTimeout()))
+                .until(d -> {
+                    Object state = ((JavascriptExecutor) d).executeScript("return document.readyState;");
+                    String url = d.getCurrentUrl();
+                    return "complete".equals(state) && !"about:blank".equals(url);
+                });
+    }
+    
     /**
      * Get current browser name
      */
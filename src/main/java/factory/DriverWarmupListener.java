@@ -0,0 +1,42 @@
+package factory;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+/**
+ * DriverWarmupListener - Starts browser sessions as soon as a suite starts
+ *
+ * Registered in testng.xml. Launches sessions with the suite's
+ * browser/headless parameters (explicit -D values win, see
+ * DriverFactory.browserParameters), which tests use unless their own
+ * parameters differ - mismatching sessions are discarded. Launches
+ * driver.prelaunch.count sessions (default thread.count), at most one per
+ * test of a UsesBrowser class and none when the suite needs no browser;
+ * leftovers are quit when the suite finishes.
+ */
+public class DriverWarmupListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!WarmSessionPool.isEnabled()) {
+            return;
+        }
+        long browserTests = suite.getAllMethods().stream()
+                .filter(method -> UsesBrowser.class.isAssignableFrom(method.getRealClass()))
+                .count();
+        if (browserTests == 0) {
+            LoggerUtil.info("No browser tests in suite " + suite.getName() + ", skipping browser pre-launch");
+            return;
+        }
+        int count = ConfigReader.getIntProperty("driver.prelaunch.count", ConfigReader.getIntProperty("thread.count", 1));
+        WarmSessionPool.start((int) Math.min(count, browserTests),
+                DriverFactory.browserParameters(suite.getParameter("browser"), suite.getParameter("headless")));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        WarmSessionPool.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package factory;
+
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * InterstitialWatcher - Dismisses known popups and banners as soon as they appear
+ *
+ * Installs a MutationObserver in every document (see DocumentScripts) that
+ * clicks the dismiss control of known interstitials - cookie consent, product
+ * tour - whenever one is rendered. Tests no longer wait for popups that are
+ * usually absent. Selectors come from interstitials.selectors (separated by
+ * ';'); enabled with interstitials.auto.dismiss.
+ */
+public final class InterstitialWatcher {
+
+    private static final String SCRIPT_NAME = "interstitialWatcher";
+    private static final String DEFAULT_SELECTORS =
+            "a.wt-cli-accept-all-btn[data-cli_action='accept_all'];span.ins-close-button";
+
+    private static final String WATCHER_SCRIPT =
+            "var selectors = %s, pending = false;" +
+            "function isVisible(el) { return el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden'; }" +
+            "function sweep() {" +
+            "  pending = false;" +
+            "  selectors.forEach(function(selector) {" +
+            "    document.querySelectorAll(selector).forEach(function(el) {" +
+            "      if (!el.__dismissed && isVisible(el)) { el.__dismissed = true; el.click(); }" +
+            "    });" +
+            "  });" +
+            "}" +
+            "new MutationObserver(function() {" +
+            "  if (!pending) { pending = true; setTimeout(sweep, 50); }" +
+            "}).observe(document, {childList: true, subtree: true, attributes: true, attributeFilter: ['style', 'class']});" +
+            "if (document.readyState !== 'loading') { sweep(); }";
+
+    private InterstitialWatcher() {
+    }
+
+    /**
+     * Check if interstitials are dismissed automatically (interstitials.auto.dismiss)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("interstitials.auto.dismiss", true);
+    }
+
+    /**
+     * Start watching for interstitials in all documents of the session
+     */
+    public static void install(WebDriver driver) {
+        String selectors = ConfigReader.getProperty("interstitials.selectors", DEFAULT_SELECTORS);
+        String selectorArray = Arrays.stream(selectors.split(";"))
+                .map(String::trim)
+                .filter(selector -> !selector.isEmpty())
+                .map(selector -> "\"" + selector.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+        DocumentScripts.register(driver, SCRIPT_NAME, String.format(WATCHER_SCRIPT, selectorArray));
+        LoggerUtil.info("Interstitial watcher installed for: " + selectors);
+    }
+}
@@ -0,0 +1,106 @@
+package factory;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * JourneyPrefetcher - Prefetches the next page of the candidate journey
+ *
+ * The career flow visits a fixed sequence of pages. A script in every
+ * document (see DocumentScripts) looks up the current page in that sequence
+ * and, once the page has loaded, adds a &lt;link rel=prefetch as=document&gt;
+ * for the next one - the browser fetches it at idle priority while the test
+ * validates the current page, and the next navigation or click is served from
+ * the cache. Targets only known at runtime (the captured Lever link) are
+ * prefetched with prefetch(driver, url).
+ *
+ * The journey comes from prefetch.journey (URLs separated by ';'), defaulting
+ * to base.url, careers.page.url, qa.jobs.url and qa.jobs.list.url. Pages are
+ * matched on origin and path; query strings and trailing slashes are ignored.
+ */
+public final class JourneyPrefetcher {
+
+    private static final String SCRIPT_NAME = "journeyPrefetch";
+
+    private static final String PREFETCH_FUNCTION =
+            "function prefetch(url) {" +
+            "  var existing = document.querySelectorAll('link[rel=prefetch]');" +
+            "  for (var i = 0; i < existing.length; i++) { if (existing[i].href === url) { return; } }" +
+            "  var link = document.createElement('link');" +
+            "  link.rel = 'prefetch'; link.as = 'document'; link.href = url;" +
+            "  document.head.appendChild(link);" +
+            "}";
+
+    private static final String JOURNEY_SCRIPT =
+            "var journey = %s;" +
+            PREFETCH_FUNCTION +
+            "function pageKey(url) {" +
+            "  var a = document.createElement('a'); a.href = url;" +
+            "  return (a.origin + a.pathname).replace(/\\/$/, '');" +
+            "}" +
+            "function prefetchNext() {" +
+            "  var index = journey.map(pageKey).indexOf(pageKey(window.location.href));" +
+            "  if (index >= 0 && index < journey.length - 1) { prefetch(journey[index + 1]); }" +
+            "}" +
+            "if (document.readyState === 'complete') { prefetchNext(); }" +
+            "else { window.addEventListener('load', prefetchNext); }";
+
+    private static final String PREFETCH_SCRIPT = PREFETCH_FUNCTION + "if (document.head) { prefetch(arguments[0]); }";
+
+    private JourneyPrefetcher() {
+    }
+
+    /**
+     * Check if journey prefetching is enabled (prefetch.enabled)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("prefetch.enabled", true);
+    }
+
+    /**
+     * Prefetch the next journey page from every document of the session
+     */
+    public static void install(WebDriver driver) {
+        List<String> journey = journey();
+        String journeyArray = journey.stream()
+                .map(url -> "\"" + url.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+        DocumentScripts.register(driver, SCRIPT_NAME, String.format(JOURNEY_SCRIPT, journeyArray));
+        LoggerUtil.info("Journey prefetching enabled for " + journey.size() + " pages");
+    }
+
+    /**
+     * Prefetch a URL from the current document, e.g. a link target captured at runtime
+     */
+    public static void prefetch(WebDriver driver, String url) {
+        if (!isEnabled() || url == null) {
+            return;
+        }
+        try {
+            ((JavascriptExecutor) driver).executeScript(PREFETCH_SCRIPT, url);
+            LoggerUtil.debug("Prefetching: " + url);
+        } catch (WebDriverException e) {
+            LoggerUtil.debug("Prefetch not started for " + url + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * URLs of the journey in visiting order
+     */
+    public static List<String> journey() {
+        String configured = ConfigReader.getProperty("prefetch.journey", "");
+        Stream<String> urls = configured.isBlank()
+                ? Stream.of(ConfigReader.getBaseUrl(), ConfigReader.getProperty("careers.page.url", ""),
+                        ConfigReader.getProperty("qa.jobs.url", ""), ConfigReader.getProperty("qa.jobs.list.url", ""))
+                : Arrays.stream(configured.split(";"));
+        return urls.map(String::trim).filter(url -> !url.isEmpty()).toList();
+    }
+}
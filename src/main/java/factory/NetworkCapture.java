@@ -0,0 +1,342 @@
+package factory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * NetworkCapture - HAR-style network waterfall of a time window
+ *
+ * On Chromium drivers with DevTools the requests come from CDP Network.*
+ * events (CdpNetworkRecorder): exact methods, statuses, headers, sizes and
+ * phase timings for every origin, with no browser round trip per capture.
+ * Other drivers (Firefox, decorated drivers) fall back to the Resource
+ * Timing API, which exposes no methods or headers and, for cross-origin
+ * resources without Timing-Allow-Origin, no phase timings, status or sizes;
+ * such entries are marked "_opaque" and carry only their total time.
+ *
+ * Memory is bounded on both sides: at most network.capture.buffer requests
+ * are kept per session (per document for Resource Timing), and each capture
+ * returns only the network.capture.top slowest requests.
+ */
+public final class NetworkCapture {
+
+    /**
+     * Start of a capture window - a recorder position on CDP, else browser epoch milliseconds
+     */
+    public record Mark(boolean cdp, double position) {
+    }
+
+    private static final String SCRIPT_NAME = "resourceTimingBuffer";
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Map<WebDriver, CdpNetworkRecorder> recorders = new WeakHashMap<>();
+
+    private static final String BROWSER_NOW_SCRIPT = "return performance.timeOrigin + performance.now();";
+
+    private static final String ENTRIES_SCRIPT =
+            "var since = arguments[0], top = arguments[1], origin = performance.timeOrigin;" +
+            "function phase(start, end) { return start > 0 && end >= start ? end - start : -1; }" +
+            "var entries = performance.getEntriesByType('navigation').concat(performance.getEntriesByType('resource'))" +
+            "  .filter(function(e) { return origin + e.startTime >= since; })" +
+            "  .sort(function(a, b) { return b.duration - a.duration; })" +
+            "  .slice(0, top);" +
+            "return {entries: entries.map(function(e) {" +
+            "  var dns = phase(e.domainLookupStart, e.domainLookupEnd), connect = phase(e.connectStart, e.connectEnd);" +
+            "  return {" +
+            "    url: e.name, initiator: e.initiatorType, protocol: e.nextHopProtocol || ''," +
+            "    opaque: e.responseStart === 0," +
+            "    status: e.responseStatus || 0, started: origin + e.startTime, time: e.duration," +
+            "    transferSize: e.transferSize || 0, encodedBodySize: e.encodedBodySize || 0, decodedBodySize: e.decodedBodySize || 0," +
+            "    blocked: e.requestStart > 0 ? Math.max(0, e.requestStart - e.startTime - Math.max(dns, 0) - Math.max(connect, 0)) : -1," +
+            "    dns: dns, connect: connect," +
+            "    ssl: e.secureConnectionStart > 0 ? phase(e.secureConnectionStart, e.connectEnd) : -1," +
+            "    wait: Math.max(phase(e.requestStart, e.responseStart), 0)," +
+            "    receive: e.responseStart > 0 ? Math.max(phase(e.responseStart, e.responseEnd), 0) : e.duration" +
+            "  };" +
+            "})};";
+
+    private NetworkCapture() {
+    }
+
+    /**
+     * Check if per-step network capture is enabled (network.capture)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("network.capture", false);
+    }
+
+    /**
+     * Start recording CDP network events, or raise the resource timing buffer without DevTools
+     */
+    public static void install(WebDriver driver) {
+        int bufferSize = ConfigReader.getIntProperty("network.capture.buffer", 1000);
+        Optional<DevTools> devTools = driver instanceof HasDevTools hasDevTools ? hasDevTools.maybeGetDevTools() : Optional.empty();
+        if (devTools.isPresent()) {
+            try {
+                CdpNetworkRecorder recorder = CdpNetworkRecorder.start(devTools.get(), bufferSize);
+                synchronized (recorders) {
+                    recorders.put(driver, recorder);
+                }
+                return;
+            } catch (WebDriverException e) {
+                LoggerUtil.debug("CDP network capture unavailable, using Resource Timing: " + e.getMessage());
+            }
+        }
+        DocumentScripts.register(driver, SCRIPT_NAME, "performance.setResourceTimingBufferSize(" + bufferSize + ");");
+    }
+
+    /**
+     * Mark the start of a capture window - null when the browser can't be reached
+     */
+    public static Mark mark(WebDriver driver) {
+        CdpNetworkRecorder recorder = recorderOf(driver);
+        if (recorder != null) {
+            return new Mark(true, recorder.mark());
+        }
+        try {
+            Object now = ((JavascriptExecutor) driver).executeScript(BROWSER_NOW_SCRIPT);
+            return now instanceof Number number ? new Mark(false, number.doubleValue()) : null;
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Build a HAR document of the slowest requests started since the mark
+     *
+     * Returns null when nothing was captured.
+     */
+    public static String harSince(WebDriver driver, Mark mark, String pageTitle) {
+        int top = ConfigReader.getIntProperty("network.capture.top", 50);
+        CdpNetworkRecorder recorder = recorderOf(driver);
+        List<Map<String, Object>> harEntries = new ArrayList<>();
+        String source;
+        if (mark.cdp() && recorder != null) {
+            harEntries.addAll(recorder.slowestSince((long) mark.position(), top));
+            source = "CDP Network events";
+        } else {
+            Map<?, ?> result;
+            try {
+                result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(ENTRIES_SCRIPT, mark.position(), top);
+            } catch (WebDriverException e) {
+                LoggerUtil.debug("Network capture failed: " + e.getMessage());
+                return null;
+            }
+            for (Object item : result == null ? List.of() : (List<?>) result.get("entries")) {
+                harEntries.add(harEntryFromResourceTiming((Map<?, ?>) item));
+            }
+            source = "Resource Timing API - no methods or headers; _opaque entries have only their total time";
+        }
+        if (harEntries.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("startedDateTime", harEntries.stream()
+                .map(entry -> Instant.parse((String) entry.get("startedDateTime")))
+                .min(Instant::compareTo).orElseThrow().toString());
+        page.put("id", "step");
+        page.put("title", pageTitle);
+        page.put("pageTimings", Map.of());
+
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Map.of("name", "insider-test-automation", "version", "1.0"));
+        log.put("comment", "Slowest " + harEntries.size() + " requests (" + source + ")");
+        log.put("pages", List.of(page));
+        log.put("entries", harEntries);
+        try {
+            return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(Map.of("log", log));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize HAR", e);
+        }
+    }
+
+    // ===================================
+    // HAR ENTRIES
+    // ===================================
+
+    /**
+     * HAR entry of a request recorded from CDP events (requestWillBeSent params plus response)
+     */
+    static Map<String, Object> harEntryFromCdp(Map<String, Object> sent, Double endTimestamp, String errorText) {
+        Map<?, ?> cdpRequest = (Map<?, ?>) sent.get("request");
+        Map<?, ?> cdpResponse = sent.get("response") instanceof Map<?, ?> map ? map : Map.of();
+        String protocol = text(cdpResponse, "protocol");
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", cdpRequest.get("method"));
+        request.put("url", cdpRequest.get("url"));
+        request.put("httpVersion", protocol);
+        request.put("cookies", List.of());
+        request.put("headers", headers(cdpRequest.get("headers")));
+        request.put("queryString", List.of());
+        request.put("headersSize", -1);
+        request.put("bodySize", -1);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", cdpResponse.get("status") instanceof Number status ? status.intValue() : 0);
+        response.put("statusText", errorText != null ? errorText : text(cdpResponse, "statusText"));
+        response.put("httpVersion", protocol);
+        response.put("cookies", List.of());
+        response.put("headers", headers(cdpResponse.get("headers")));
+        response.put("content", Map.of("size", sent.getOrDefault("dataLength", 0L),
+                "mimeType", text(cdpResponse, "mimeType")));
+        response.put("redirectURL", "");
+        response.put("headersSize", -1);
+        response.put("bodySize", -1);
+        response.put("_transferSize", sent.get("encodedDataLength") instanceof Number size ? size.longValue()
+                : 0L);
+
+        Map<String, Object> timings = cdpTimings(sent, cdpResponse, endTimestamp);
+        double time = 0;
+        for (String phase : List.of("blocked", "dns", "connect", "send", "wait", "receive")) {
+            time += Math.max(((Number) timings.get(phase)).doubleValue(), 0);
+        }
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("pageref", "step");
+        entry.put("startedDateTime", iso(((Number) sent.get("wallTime")).doubleValue() * 1000));
+        entry.put("time", time);
+        entry.put("request", request);
+        entry.put("response", response);
+        entry.put("cache", Map.of());
+        entry.put("timings", timings);
+        entry.put("_resourceType", sent.get("type"));
+        if (errorText != null) {
+            entry.put("_error", errorText);
+        }
+        return entry;
+    }
+
+    /**
+     * HAR phases from the response's ResourceTiming (milliseconds relative to requestTime)
+     */
+    private static Map<String, Object> cdpTimings(Map<String, Object> sent, Map<?, ?> cdpResponse, Double endTimestamp) {
+        Map<String, Object> timings = new LinkedHashMap<>();
+        if (!(cdpResponse.get("timing") instanceof Map<?, ?> timing)) {
+            // Failed or served without a network transaction - only the total duration is known
+            double start = ((Number) sent.get("timestamp")).doubleValue();
+            double total = endTimestamp != null ? Math.max((endTimestamp - start) * 1000, 0) : 0;
+            timings.put("blocked", -1);
+            timings.put("dns", -1);
+            timings.put("connect", -1);
+            timings.put("ssl", -1);
+            timings.put("send", 0);
+            timings.put("wait", 0);
+            timings.put("receive", total);
+            return timings;
+        }
+        double dnsStart = value(timing, "dnsStart"), connectStart = value(timing, "connectStart");
+        double sslStart = value(timing, "sslStart"), sendStart = value(timing, "sendStart");
+        double sendEnd = value(timing, "sendEnd"), headersEnd = value(timing, "receiveHeadersEnd");
+        double firstPhase = dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : sendStart;
+        double end = endTimestamp != null ? (endTimestamp - value(timing, "requestTime")) * 1000 : headersEnd;
+        timings.put("blocked", Math.max(firstPhase, 0));
+        timings.put("dns", dnsStart >= 0 ? value(timing, "dnsEnd") - dnsStart : -1);
+        timings.put("connect", connectStart >= 0 ? value(timing, "connectEnd") - connectStart : -1);
+        timings.put("ssl", sslStart >= 0 ? value(timing, "sslEnd") - sslStart : -1);
+        timings.put("send", Math.max(sendEnd - sendStart, 0));
+        timings.put("wait", Math.max(headersEnd - sendEnd, 0));
+        timings.put("receive", Math.max(end - headersEnd, 0));
+        return timings;
+    }
+
+    /**
+     * HAR entry of a Resource Timing entry - see the class comment for what it can't tell
+     */
+    private static Map<String, Object> harEntryFromResourceTiming(Map<?, ?> timing) {
+        String initiator = String.valueOf(timing.get("initiator"));
+        String protocol = String.valueOf(timing.get("protocol"));
+        boolean opaque = Boolean.TRUE.equals(timing.get("opaque"));
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        // Only fetch/XHR can use other methods than GET, and Resource Timing doesn't say which
+        boolean methodKnown = !"fetch".equals(initiator) && !"xmlhttprequest".equals(initiator);
+        request.put("method", methodKnown ? "GET" : "");
+        request.put("url", timing.get("url"));
+        request.put("httpVersion", protocol);
+        request.put("cookies", List.of());
+        request.put("headers", List.of());
+        request.put("queryString", List.of());
+        request.put("headersSize", -1);
+        request.put("bodySize", -1);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", timing.get("status"));
+        response.put("statusText", "");
+        response.put("httpVersion", protocol);
+        response.put("cookies", List.of());
+        response.put("headers", List.of());
+        response.put("content", Map.of("size", timing.get("decodedBodySize"), "mimeType", ""));
+        response.put("redirectURL", "");
+        response.put("headersSize", -1);
+        response.put("bodySize", opaque ? -1 : timing.get("encodedBodySize"));
+        response.put("_transferSize", timing.get("transferSize"));
+
+        Map<String, Object> timings = new LinkedHashMap<>();
+        for (String phase : List.of("blocked", "dns", "connect", "ssl", "wait", "receive")) {
+            timings.put(phase, timing.get(phase));
+        }
+        timings.put("send", 0);
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("pageref", "step");
+        entry.put("startedDateTime", iso(((Number) timing.get("started")).doubleValue()));
+        entry.put("time", timing.get("time"));
+        entry.put("request", request);
+        entry.put("response", response);
+        entry.put("cache", Map.of());
+        entry.put("timings", timings);
+        entry.put("_initiatorType", initiator);
+        if (!methodKnown) {
+            entry.put("_methodUnknown", true);
+        }
+        if (opaque) {
+            entry.put("_opaque", true);
+            entry.put("comment", "Cross-origin without Timing-Allow-Origin: status, sizes and phases not exposed");
+        }
+        return entry;
+    }
+
+    private static List<Map<String, String>> headers(Object headers) {
+        List<Map<String, String>> list = new ArrayList<>();
+        if (headers instanceof Map<?, ?> map) {
+            map.forEach((name, value) -> list.add(Map.of("name", String.valueOf(name), "value", String.valueOf(value))));
+        }
+        return list;
+    }
+
+    private static String text(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        return value != null ? String.valueOf(value) : "";
+    }
+
+    private static double value(Map<?, ?> timing, String key) {
+        return timing.get(key) instanceof Number number ? number.doubleValue() : -1;
+    }
+
+    private static CdpNetworkRecorder recorderOf(WebDriver driver) {
+        synchronized (recorders) {
+            return recorders.get(driver);
+        }
+    }
+
+    private static String iso(double epochMs) {
+        return Instant.ofEpochMilli((long) epochMs).toString();
+    }
+}
@@ -0,0 +1,64 @@
+package factory;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NetworkStepListener - Attaches a HAR of each page-level Allure step's network traffic
+ *
+ * Registered through META-INF/services. Only steps up to
+ * network.capture.depth levels deep are captured (1 = the page object
+ * steps called by tests; nested BasePage click/hover steps are part of
+ * them). On CDP drivers this costs no browser round trip; with the
+ * Resource Timing fallback it costs one script call at step start and one
+ * at step stop.
+ */
+public class NetworkStepListener implements StepLifecycleListener {
+
+    /** Marks steps that are not captured (too deep, or no browser) */
+    private static final Optional<NetworkCapture.Mark> NOT_CAPTURED = Optional.empty();
+
+    private final Map<Thread, Deque<Optional<NetworkCapture.Mark>>> stepStartsByThread = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeStepStart(StepResult step) {
+        Deque<Optional<NetworkCapture.Mark>> starts = stepStartsByThread.computeIfAbsent(Thread.currentThread(), thread -> new ArrayDeque<>());
+        Optional<NetworkCapture.Mark> start = NOT_CAPTURED;
+        WebDriver driver = DriverContext.current();
+        if (driver != null && NetworkCapture.isEnabled()
+                && starts.size() < ConfigReader.getIntProperty("network.capture.depth", 1)) {
+            start = Optional.ofNullable(NetworkCapture.mark(driver));
+        }
+        starts.push(start);
+    }
+
+    @Override
+    public void beforeStepStop(StepResult step) {
+        Deque<Optional<NetworkCapture.Mark>> starts = stepStartsByThread.get(Thread.currentThread());
+        if (starts == null || starts.isEmpty()) {
+            return;
+        }
+        Optional<NetworkCapture.Mark> start = starts.pop();
+        if (starts.isEmpty()) {
+            stepStartsByThread.remove(Thread.currentThread());
+        }
+
+        WebDriver driver = DriverContext.current();
+        if (start.isEmpty() || driver == null) {
+            return;
+        }
+        String har = NetworkCapture.harSince(driver, start.get(), step.getName());
+        if (har != null) {
+            Allure.addAttachment("Network (HAR)", "application/json", har, ".har");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package factory;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * SessionReset - Returns a browser session to a clean state without relaunching it
+ *
+ * Closes extra windows, clears cookies, storage, service workers and caches
+ * (CDP on Chromium, WebDriver and scripts elsewhere), restores zoom and the
+ * initial window rect and parks the session on about:blank. The result is
+ * verified; callers quit the session when reset() returns false.
+ *
+ * Every origin the session visited is cleared: navigations record their
+ * target (recordVisit), and reset adds the origins of all open windows and,
+ * on CDP, of the remaining window's history. CDP clears cookies browser-wide
+ * and storage per origin, then verifies no cookies remain and no origin
+ * still uses storage. Scripts can only clear the origin the remaining window
+ * is on, so without CDP a session that visited other origins is not
+ * verified clean and gets quit.
+ */
+public final class SessionReset {
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "var done = arguments[arguments.length - 1], tasks = [];" +
+            "try { localStorage.clear(); sessionStorage.clear(); } catch (e) { /* opaque origin */ }" +
+            "if (navigator.serviceWorker) {" +
+            "  tasks.push(navigator.serviceWorker.getRegistrations().then(function(rs) {" +
+            "    return Promise.all(rs.map(function(r) { return r.unregister(); }));" +
+            "  }));" +
+            "}" +
+            "if (window.caches) {" +
+            "  tasks.push(caches.keys().then(function(keys) { return Promise.all(keys.map(function(k) { return caches.delete(k); })); }));" +
+            "}" +
+            "if (window.indexedDB && indexedDB.databases) {" +
+            "  tasks.push(indexedDB.databases().then(function(dbs) { dbs.forEach(function(db) { indexedDB.deleteDatabase(db.name); }); }));" +
+            "}" +
+            "Promise.all(tasks).then(function() { done(true); }, function() { done(false); });";
+
+    private static final String STORAGE_CLEAN_SCRIPT =
+            "try { return document.cookie === '' && localStorage.length === 0 && sessionStorage.length === 0; }" +
+            "catch (e) { return true; }";
+
+    private static final Map<WebDriver, Rectangle> initialRects = new WeakHashMap<>();
+    private static final Map<WebDriver, Set<String>> visitedOrigins = new WeakHashMap<>();
+
+    private SessionReset() {
+    }
+
+    /**
+     * Remember the window rect to restore on reset - call once the session is configured
+     */
+    public static void rememberInitialState(WebDriver driver) {
+        Rectangle rect = windowRect(driver);
+        synchronized (initialRects) {
+            initialRects.put(driver, rect);
+        }
+    }
+
+    /**
+     * Record that the session navigated to a URL, so reset clears its origin
+     */
+    public static void recordVisit(WebDriver driver, String url) {
+        String origin = originOf(url);
+        if (driver == null || origin == null) {
+            return;
+        }
+        synchronized (visitedOrigins) {
+            visitedOrigins.computeIfAbsent(driver, d -> new LinkedHashSet<>()).add(origin);
+        }
+    }
+
+    /**
+     * Reset the session for the next test - false when it could not be verified clean
+     */
+    public static boolean reset(WebDriver driver) {
+        long start = System.currentTimeMillis();
+        Set<String> origins = new LinkedHashSet<>();
+        synchronized (visitedOrigins) {
+            Set<String> visited = visitedOrigins.remove(driver);
+            if (visited != null) {
+                origins.addAll(visited);
+            }
+        }
+        String baseOrigin = originOf(ConfigReader.getBaseUrl());
+        if (baseOrigin != null) {
+            origins.add(baseOrigin);
+        }
+        try {
+            closeExtraWindows(driver, origins);
+            String origin = originOf(driver.getCurrentUrl());
+            if (origin != null) {
+                origins.add(origin);
+            }
+            boolean cdp = driver instanceof HasCdp && clearWithCdp((HasCdp) driver, origins);
+            boolean storageClean = cdp ? verifyWithCdp((HasCdp) driver, origins) : clearWithScripts(driver, origin, origins);
+            restoreWindow(driver, cdp);
+            driver.get("about:blank");
+
+            boolean clean = storageClean && driver.getWindowHandles().size() == 1 && "about:blank".equals(driver.getCurrentUrl());
+            if (clean) {
+                LoggerUtil.info("Browser session reset in " + (System.currentTimeMillis() - start) + "ms" + (cdp ? " (CDP)" : "") +
+                        ", origins: " + origins);
+            } else {
+                LoggerUtil.warn("Browser session reset could not be verified (storage clean: " + storageClean + ", origins: " + origins + ")");
+            }
+            return clean;
+        } catch (WebDriverException e) {
+            LoggerUtil.warn("Browser session reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void closeExtraWindows(WebDriver driver, Set<String> origins) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        for (String handle : handles.subList(1, handles.size())) {
+            driver.switchTo().window(handle);
+            String origin = originOf(driver.getCurrentUrl());
+            if (origin != null) {
+                origins.add(origin);
+            }
+            driver.close();
+        }
+        driver.switchTo().window(handles.get(0));
+    }
+
+    private static boolean clearWithCdp(HasCdp cdp, Set<String> origins) {
+        try {
+            origins.addAll(historyOrigins(cdp));
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            cdp.executeCdpCommand("Network.clearBrowserCache", Map.of());
+            for (String storageOrigin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", storageOrigin, "storageTypes", "all"));
+            }
+            return true;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            LoggerUtil.debug("CDP reset unavailable: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Origins in the current window's history - catches navigations by clicks and redirects
+     */
+    private static Set<String> historyOrigins(HasCdp cdp) {
+        Set<String> origins = new LinkedHashSet<>();
+        Object entries = cdp.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries");
+        if (entries instanceof List<?> list) {
+            for (Object entry : list) {
+                if (entry instanceof Map<?, ?> map) {
+                    String origin = originOf(String.valueOf(map.get("url")));
+                    if (origin != null) {
+                        origins.add(origin);
+                    }
+                }
+            }
+        }
+        return origins;
+    }
+
+    /**
+     * Check no cookies remain and no origin still uses storage
+     */
+    private static boolean verifyWithCdp(HasCdp cdp, Set<String> origins) {
+        Object cookies = cdp.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+        if (cookies instanceof List<?> list && !list.isEmpty()) {
+            LoggerUtil.debug("Cookies left after reset: " + list.size());
+            return false;
+        }
+        for (String origin : origins) {
+            Object usage = cdp.executeCdpCommand("Storage.getUsageAndQuota", Map.of("origin", origin)).get("usage");
+            if (usage instanceof Number bytes && bytes.doubleValue() > 0) {
+                LoggerUtil.debug("Storage left after reset for " + origin + ": " + bytes + " bytes");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Clear the current origin with WebDriver and scripts - false when other origins were visited
+     */
+    private static boolean clearWithScripts(WebDriver driver, String origin, Set<String> origins) {
+        driver.manage().deleteAllCookies();
+        if (origin != null) {
+            ((JavascriptExecutor) driver).executeAsyncScript(CLEAR_STORAGE_SCRIPT);
+        }
+        boolean currentClean = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(STORAGE_CLEAN_SCRIPT));
+        boolean othersVisited = origins.stream().anyMatch(visited -> !visited.equals(origin));
+        if (othersVisited) {
+            LoggerUtil.debug("Origins other than " + origin + " cannot be cleared without CDP: " + origins);
+        }
+        return currentClean && !othersVisited;
+    }
+
+    private static void restoreWindow(WebDriver driver, boolean cdp) {
+        if (cdp) {
+            HasCdp devTools = (HasCdp) driver;
+            devTools.executeCdpCommand("Emulation.clearDeviceMetricsOverride", Map.of());
+            devTools.executeCdpCommand("Emulation.setPageScaleFactor", Map.of("pageScaleFactor", 1));
+        }
+        Rectangle initial;
+        synchronized (initialRects) {
+            initial = initialRects.get(driver);
+        }
+        if (initial != null && !initial.equals(windowRect(driver))) {
+            driver.manage().window().setPosition(initial.getPoint());
+            driver.manage().window().setSize(initial.getDimension());
+        }
+    }
+
+    private static Rectangle windowRect(WebDriver driver) {
+        return new Rectangle(driver.manage().window().getPosition(), driver.manage().window().getSize());
+    }
+
+    private static String originOf(String url) {
+        if (url == null || !url.startsWith("http")) {
+            return null;
+        }
+        try {
+            URI uri = new URI(url);
+            return uri.getAuthority() == null ? null : uri.getScheme() + "://" + uri.getAuthority();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package factory;
+
+/**
+ * UsesBrowser - Marker for test classes that run against a browser session
+ *
+ * DriverWarmupListener only pre-launches sessions for suites that contain
+ * tests of such classes; browserless tiers (JobPostingsApiTest) leave it out.
+ */
+public interface UsesBrowser {
+}
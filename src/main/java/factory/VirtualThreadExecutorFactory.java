@@ -0,0 +1,79 @@
+package factory;
+
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+import utils.LoggerUtil;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VirtualThreadExecutorFactory - TestNG executor factory running workers on virtual threads
+ *
+ * TestNG's graph executors are kept (so dependencies and priorities behave
+ * as usual); only their thread factory is swapped for a virtual thread
+ * factory. With RemoteWebDriver a test thread spends most of its life
+ * blocked on HTTP calls to the hub, so hundreds of sessions can then be
+ * orchestrated without hundreds of platform thread stacks.
+ *
+ * Virtual threads need Java 21 (mvn -Pvirtual-threads). On older runtimes
+ * the factory logs a warning and TestNG's platform threads are used.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+
+    private final IExecutorFactory delegate = new DefaultThreadPoolExecutorFactory();
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory,
+                                                      int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                                      TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                                      Comparator<ISuite> comparator) {
+        return useVirtualThreads(delegate.newSuiteExecutor(name, graph, factory, corePoolSize,
+                maximumPoolSize, keepAliveTime, unit, workQueue, comparator), "suite-");
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory,
+                                                           int corePoolSize, int maximumPoolSize, long keepAliveTime,
+                                                           TimeUnit unit, BlockingQueue<Runnable> workQueue,
+                                                           Comparator<ITestNGMethod> comparator) {
+        return useVirtualThreads(delegate.newTestMethodExecutor(name, graph, factory, corePoolSize,
+                maximumPoolSize, keepAliveTime, unit, workQueue, comparator), "test-");
+    }
+
+    private static ITestNGThreadPoolExecutor useVirtualThreads(ITestNGThreadPoolExecutor executor, String prefix) {
+        ThreadFactory virtualThreads = virtualThreadFactory("vt-" + prefix);
+        if (virtualThreads != null && executor instanceof ThreadPoolExecutor pool) {
+            pool.setThreadFactory(virtualThreads);
+        }
+        return executor;
+    }
+
+    /**
+     * Create a virtual thread factory, or null when the runtime has no virtual threads
+     *
+     * Resolved reflectively so the framework still compiles for Java 17.
+     */
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            LoggerUtil.warn("Virtual threads are not available on Java " + Runtime.version().feature() +
+                    " - falling back to platform threads");
+            return null;
+        }
+    }
+}
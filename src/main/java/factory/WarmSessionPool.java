@@ -0,0 +1,128 @@
+package factory;
+
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WarmSessionPool - Browser sessions launched ahead of the tests that use them
+ *
+ * DriverWarmupListener starts the pool when a suite with browser tests starts, so
+ * browser startup and the base URL load overlap with suite discovery and
+ * configuration. DriverFactory.initializeDriver() takes a session from the
+ * pool before launching one itself; a session still starting is waited for,
+ * which is never slower than launching a new one. Sessions launched for a
+ * different browser configuration than the test asks for are discarded.
+ * Sessions left unused are quit when execution finishes.
+ */
+public final class WarmSessionPool {
+
+    private record WarmSession(String configuration, CompletableFuture<WebDriver> driver) {
+    }
+
+    private static final Queue<WarmSession> sessions = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static volatile ExecutorService launcher;
+
+    private WarmSessionPool() {
+    }
+
+    /**
+     * Check if sessions are pre-launched (driver.prelaunch)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("driver.prelaunch", true);
+    }
+
+    /**
+     * Launch sessions in the background and load the base URL in each
+     * 
+     * settings are configuration overrides for the launches, e.g. suite browser parameters.
+     */
+    public static synchronized void start(int count, Map<String, String> settings) {
+        if (launcher != null || count <= 0) {
+            return;
+        }
+        launcher = Executors.newFixedThreadPool(count, task -> {
+            Thread thread = new Thread(task, "browser-prelaunch-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ConfigReader.setThreadOverrides(settings);
+        String configuration;
+        try {
+            configuration = currentConfiguration();
+        } finally {
+            ConfigReader.clearThreadOverrides();
+        }
+        for (int i = 0; i < count; i++) {
+            sessions.add(new WarmSession(configuration, CompletableFuture.supplyAsync(() -> launch(settings), launcher)));
+        }
+        LoggerUtil.info("Pre-launching " + count + " browser session(s): " + configuration);
+    }
+
+    /**
+     * Take a pre-launched session for the current configuration - null when none is available
+     */
+    public static WebDriver take() {
+        if (!isEnabled()) {
+            return null;
+        }
+        WarmSession session = sessions.poll();
+        if (session == null) {
+            return null;
+        }
+        WebDriver driver;
+        try {
+            driver = session.driver().join();
+        } catch (CompletionException e) {
+            LoggerUtil.warn("Pre-launched session failed to start: " + e.getCause().getMessage());
+            return null;
+        }
+        if (!session.configuration().equals(currentConfiguration())) {
+            LoggerUtil.info("Discarding pre-launched session for " + session.configuration());
+            driver.quit();
+            return null;
+        }
+        return driver;
+    }
+
+    /**
+     * Quit sessions that no test took and stop the launcher
+     */
+    public static synchronized void shutdown() {
+        WarmSession session;
+        while ((session = sessions.poll()) != null) {
+            session.driver().thenAccept(WebDriver::quit).exceptionally(e -> null).join();
+        }
+        if (launcher != null) {
+            launcher.shutdownNow();
+            launcher = null;
+        }
+    }
+
+    private static WebDriver launch(Map<String, String> settings) {
+        ConfigReader.setThreadOverrides(settings);
+        try {
+            WebDriver driver = DriverFactory.launchSession();
+            DriverFactory.loadBaseUrl(driver);
+            return driver;
+        } finally {
+            ConfigReader.clearThreadOverrides();
+        }
+    }
+
+    private static String currentConfiguration() {
+        return DriverFactory.getCurrentBrowser().toLowerCase() + ", " + DriverFactory.getCurrentEnvironment().toLowerCase() +
+                (ConfigReader.isHeadless() ? ", headless" : "");
+    }
+}
@@ -0,0 +1,258 @@
+package factory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * WebVitals - Page performance of every visited page, checked against budgets
+ *
+ * A PerformanceObserver script in every document (see DocumentScripts)
+ * collects TTFB, FCP, LCP, CLS and long tasks. BasePage captures the values
+ * before each navigation or click leaves a page, so every page visited by a
+ * test gets a record (per test, per document).
+ *
+ * Budgets ("careers LCP below 2500ms") come from vitals.budgets or addBudget:
+ * WARN budgets are logged, FAIL budgets make assertBudgets() fail the test.
+ * Pages are kept per test until that test's budgets are asserted, then only
+ * for the report: all pages are written to report.path/web-vitals.json at
+ * suite end.
+ */
+public final class WebVitals {
+
+    public enum Enforcement { WARN, FAIL }
+
+    /**
+     * Upper limit for one metric on pages whose URL contains the fragment ("*" for all pages)
+     */
+    public record Budget(String urlFragment, String metric, double limit, Enforcement enforcement) {
+
+        boolean appliesTo(String url) {
+            return "*".equals(urlFragment) || url.toLowerCase(Locale.ENGLISH).contains(urlFragment.toLowerCase(Locale.ENGLISH));
+        }
+
+        @Override
+        public String toString() {
+            return urlFragment + " " + metric + " < " + limit;
+        }
+    }
+
+    /**
+     * Metrics of one document as last captured - times in milliseconds, CLS unitless
+     */
+    public record PageVitals(String testId, String url, Map<String, Double> metrics) {
+    }
+
+    private static final String SCRIPT_NAME = "webVitals";
+    private static final String REPORT_FILE = "web-vitals.json";
+    private static final List<String> METRICS = List.of("ttfb", "fcp", "lcp", "cls", "longTasks", "longTaskMs");
+
+    private static final String OBSERVER_SCRIPT =
+            "var vitals = window.__webVitals = {fcp: null, lcp: null, cls: 0, longTasks: 0, longTaskMs: 0};" +
+            "function observe(type, callback) {" +
+            "  try {" +
+            "    new PerformanceObserver(function(list) { list.getEntries().forEach(callback); })" +
+            "      .observe({type: type, buffered: true});" +
+            "  } catch (e) { /* entry type not supported by this browser */ }" +
+            "}" +
+            "observe('paint', function(e) { if (e.name === 'first-contentful-paint') { vitals.fcp = e.startTime; } });" +
+            "observe('largest-contentful-paint', function(e) { vitals.lcp = e.startTime; });" +
+            "observe('layout-shift', function(e) { if (!e.hadRecentInput) { vitals.cls += e.value; } });" +
+            "observe('longtask', function(e) { vitals.longTasks++; vitals.longTaskMs += e.duration; });";
+
+    private static final String CAPTURE_SCRIPT =
+            "var v = window.__webVitals;" +
+            "if (!v || window.location.protocol.indexOf('http') !== 0) { return null; }" +
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "return {document: String(performance.timeOrigin), url: window.location.href," +
+            "  ttfb: nav ? nav.responseStart : null, fcp: v.fcp, lcp: v.lcp, cls: v.cls," +
+            "  longTasks: v.longTasks, longTaskMs: v.longTaskMs};";
+
+    /** Test id key of pages captured outside any test */
+    private static final String NO_TEST = "";
+
+    private static final Map<String, Map<String, PageVitals>> pagesByTest = new ConcurrentHashMap<>();
+    private static final Map<String, PageVitals> assertedPages = new ConcurrentHashMap<>();
+    private static final List<Budget> budgets = new CopyOnWriteArrayList<>(parseBudgets(
+            ConfigReader.getProperty("vitals.budgets", "")));
+
+    private WebVitals() {
+    }
+
+    /**
+     * Check if web vitals collection is enabled (vitals.enabled)
+     */
+    public static boolean isEnabled() {
+        return ConfigReader.getBooleanProperty("vitals.enabled", true);
+    }
+
+    /**
+     * Start collecting vitals in all documents of the session
+     */
+    public static void install(WebDriver driver) {
+        DocumentScripts.register(driver, SCRIPT_NAME, OBSERVER_SCRIPT);
+        LoggerUtil.info("Web vitals collection enabled with " + budgets.size() + " budgets");
+    }
+
+    /**
+     * Add a budget, e.g. addBudget("careers", "lcp", 2500, Enforcement.FAIL)
+     */
+    public static void addBudget(String urlFragment, String metric, double limit, Enforcement enforcement) {
+        if (!METRICS.contains(metric)) {
+            throw new IllegalArgumentException("Unknown web vitals metric: " + metric + " - expected one of " + METRICS);
+        }
+        budgets.add(new Budget(urlFragment, metric, limit, enforcement));
+    }
+
+    // ===================================
+    // CAPTURE
+    // ===================================
+
+    /**
+     * Capture the current document's vitals - call before leaving a page
+     */
+    public static void capture(WebDriver driver) {
+        if (!isEnabled() || driver == null) {
+            return;
+        }
+        Map<?, ?> snapshot;
+        try {
+            snapshot = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        } catch (WebDriverException e) {
+            LoggerUtil.debug("Web vitals not captured: " + e.getMessage());
+            return;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            Object value = snapshot.get(metric);
+            if (value instanceof Number number) {
+                metrics.put(metric, number.doubleValue());
+            }
+        }
+        String testId = LoggerUtil.currentTestId();
+        pagesByTest.computeIfAbsent(testId != null ? testId : NO_TEST, id -> new ConcurrentHashMap<>())
+                .put(testId + "|" + snapshot.get("document"), new PageVitals(testId, String.valueOf(snapshot.get("url")), metrics));
+    }
+
+    /**
+     * Capture the current page, then check the current test's pages against all budgets
+     *
+     * Outside a test only pages captured outside any test are checked. Checked
+     * pages are kept for the report only. WARN violations are logged; FAIL
+     * violations raise one AssertionError listing them.
+     */
+    public static void assertBudgets(WebDriver driver) {
+        capture(driver);
+        String testId = LoggerUtil.currentTestId();
+        Map<String, PageVitals> pages = pagesByTest.remove(testId != null ? testId : NO_TEST);
+        if (pages == null) {
+            return;
+        }
+        assertedPages.putAll(pages);
+        List<String> failures = new ArrayList<>();
+        for (PageVitals page : pages.values()) {
+            for (String violation : violations(page, Enforcement.WARN)) {
+                LoggerUtil.warn("⚠ PERFORMANCE BUDGET: " + violation);
+            }
+            failures.addAll(violations(page, Enforcement.FAIL));
+        }
+        failures.forEach(failure -> LoggerUtil.assertion("Performance budget: " + failure, false));
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " performance budgets exceeded:\n  " + String.join("\n  ", failures));
+        }
+    }
+
+    private static List<String> violations(PageVitals page, Enforcement enforcement) {
+        List<String> violations = new ArrayList<>();
+        for (Budget budget : budgets) {
+            Double value = page.metrics().get(budget.metric());
+            if (budget.enforcement() == enforcement && budget.appliesTo(page.url()) && value != null && value >= budget.limit()) {
+                violations.add(page.url() + " " + budget.metric() + "=" + String.format(Locale.ENGLISH, "%.2f", value) +
+                        " exceeds budget " + budget);
+            }
+        }
+        return violations;
+    }
+
+    // ===================================
+    // REPORTING
+    // ===================================
+
+    /**
+     * Write all captured pages with their budget violations to report.path
+     */
+    public static void writeReport() {
+        Map<String, PageVitals> allPages = new LinkedHashMap<>(assertedPages);
+        pagesByTest.values().forEach(allPages::putAll);
+        if (allPages.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> pages = new ArrayList<>();
+        for (PageVitals page : allPages.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("test", page.testId());
+            entry.put("url", page.url());
+            entry.put("metrics", page.metrics());
+            List<String> violations = new ArrayList<>(violations(page, Enforcement.FAIL));
+            violations.addAll(violations(page, Enforcement.WARN));
+            entry.put("budgetViolations", violations);
+            pages.add(entry);
+        }
+        Path reportFile = Paths.get(ConfigReader.getProperty("report.path", "target/reports/"), REPORT_FILE);
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), pages);
+            LoggerUtil.info("Web vitals of " + pages.size() + " pages written to: " + reportFile);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write web vitals report", e);
+        }
+    }
+
+    /**
+     * Parse "fragment:metric&lt;limit[:warn|fail]" entries separated by ';'
+     */
+    static List<Budget> parseBudgets(String definitions) {
+        List<Budget> parsed = new ArrayList<>();
+        for (String definition : definitions.split(";")) {
+            if (definition.isBlank()) {
+                continue;
+            }
+            String[] parts = definition.trim().split(":");
+            String[] rule = parts.length > 1 ? parts[1].split("<") : new String[0];
+            if (rule.length != 2 || !METRICS.contains(rule[0].trim())) {
+                LoggerUtil.warn("Ignoring invalid performance budget: " + definition);
+                continue;
+            }
+            double limit;
+            try {
+                limit = Double.parseDouble(rule[1].trim());
+            } catch (NumberFormatException e) {
+                LoggerUtil.warn("Ignoring performance budget with invalid limit: " + definition);
+                continue;
+            }
+            Enforcement enforcement = parts.length > 2 && "fail".equalsIgnoreCase(parts[2].trim())
+                    ? Enforcement.FAIL : Enforcement.WARN;
+            parsed.add(new Budget(parts[0].trim(), rule[0].trim(), limit, enforcement));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,69 @@
+package jobs;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JobCriteria - Expected properties of filtered job postings
+ *
+ * Shared by the browser journey (QualityAssuranceJobsPage.checkFilteredJobs)
+ * and the browserless postings tier, so both validate the same rules.
+ */
+public class JobCriteria {
+
+    public static final String QA_DEPARTMENT = "Quality Assurance";
+    public static final String ISTANBUL_LOCATION = "Istanbul, Turkiye";
+
+    private final String department;
+    private final String location;
+    private final List<String> titleKeywords;
+
+    public JobCriteria(String department, String location, List<String> titleKeywords) {
+        this.department = department;
+        this.location = location;
+        this.titleKeywords = titleKeywords;
+    }
+
+    /**
+     * QA positions in Istanbul - the career journey's filter
+     */
+    public static JobCriteria qaJobsInIstanbul() {
+        return new JobCriteria(QA_DEPARTMENT, ISTANBUL_LOCATION, List.of("quality assurance", "qa", "test"));
+    }
+
+    /**
+     * Check whether a posting falls under this filter (department and location)
+     */
+    public boolean matchesFilter(JobPosting posting) {
+        return department.equals(posting.department()) && location.equals(posting.location());
+    }
+
+    /**
+     * Build the rule set checked for every posting under this filter
+     */
+    public JobRuleSet rules() {
+        return new JobRuleSet()
+                .add(JobRule.of(posting -> titleKeywords.stream()
+                                .anyMatch(posting.title().toLowerCase(Locale.ENGLISH)::contains),
+                        posting -> "Job title is not QA related: '" + posting.title() + "'"))
+                .add(JobRule.of(posting -> department.equals(posting.department()),
+                        posting -> "Department is not " + department + ": '" + posting.department() + "'"))
+                .add(JobRule.of(posting -> location.equals(posting.location()),
+                        posting -> "Location is not " + location + ": '" + posting.location() + "'"));
+    }
+
+    /**
+     * Get rule violations for a posting - empty when it meets all criteria
+     */
+    public List<String> violations(JobPosting posting) {
+        return rules().violations(posting);
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+}
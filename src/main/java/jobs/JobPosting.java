@@ -0,0 +1,12 @@
+package jobs;
+
+/**
+ * JobPosting - One open position, as listed on the careers page or in the postings feed
+ */
+public record JobPosting(String title, String department, String location, String url) {
+
+    @Override
+    public String toString() {
+        return "Title: '" + title + "', Department: '" + department + "', Location: '" + location + "'";
+    }
+}
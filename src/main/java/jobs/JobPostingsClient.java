@@ -0,0 +1,111 @@
+package jobs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JobPostingsClient - Browserless access to the open positions data source
+ *
+ * Fetches the Lever postings feed behind the careers open-positions page
+ * (jobs.api.url) and maps it to JobPosting records, so job listing
+ * criteria can be validated over every posting in milliseconds without
+ * driving a browser through the filters.
+ */
+public class JobPostingsClient {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String postingsUrl;
+
+    public JobPostingsClient() {
+        this(ConfigReader.getProperty("jobs.api.url", "https://api.lever.co/v0/postings/useinsider?mode=json"));
+    }
+
+    public JobPostingsClient(String postingsUrl) {
+        this.postingsUrl = postingsUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Fetch all open postings
+     */
+    public List<JobPosting> fetchAll() {
+        return fetch(postingsUrl);
+    }
+    
+    /**
+     * Fetch the postings the feed returns for the criteria's team and location query
+     *
+     * Filtering is left to the source (Lever's team/location parameters, as
+     * used by the careers page), so wrongly tagged postings it returns are
+     * still caught by the criteria's rules.
+     */
+    public List<JobPosting> fetchFiltered(JobCriteria criteria) {
+        String query = "team=" + URLEncoder.encode(criteria.getDepartment(), StandardCharsets.UTF_8) +
+                "&location=" + URLEncoder.encode(criteria.getLocation(), StandardCharsets.UTF_8);
+        return fetch(postingsUrl + (postingsUrl.contains("?") ? "&" : "?") + query);
+    }
+
+    private List<JobPosting> fetch(String url) {
+        LoggerUtil.info("Fetching job postings from: " + url);
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()))
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new RuntimeException("Postings request failed with HTTP " + response.statusCode() + ": " + url);
+            }
+
+            List<JobPosting> postings = parse(response.body());
+            LoggerUtil.info("Fetched " + postings.size() + " job postings in " +
+                    Duration.ofNanos(System.nanoTime() - start).toMillis() + "ms");
+            return postings;
+
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to fetch job postings from: " + url, e);
+            throw new RuntimeException("Failed to fetch job postings", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching job postings", e);
+        }
+    }
+
+    /**
+     * Parse a Lever postings JSON array
+     */
+    static List<JobPosting> parse(String json) throws IOException {
+        List<JobPosting> postings = new ArrayList<>();
+        for (JsonNode node : mapper.readTree(json)) {
+            JsonNode categories = node.path("categories");
+            // The careers page shows Lever's team as the department
+            String department = categories.path("team").asText(categories.path("department").asText(""));
+            postings.add(new JobPosting(
+                    node.path("text").asText(""),
+                    department,
+                    categories.path("location").asText(""),
+                    node.path("hostedUrl").asText("")));
+        }
+        return postings;
+    }
+}
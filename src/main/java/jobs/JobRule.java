@@ -0,0 +1,22 @@
+package jobs;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * JobRule - A single check applied to every job posting
+ *
+ * Returns a violation message, or null when the posting passes.
+ */
+@FunctionalInterface
+public interface JobRule {
+
+    String check(JobPosting posting);
+
+    /**
+     * Build a rule from a predicate and the message reported when it fails
+     */
+    static JobRule of(Predicate<JobPosting> passes, Function<JobPosting, String> message) {
+        return posting -> passes.test(posting) ? null : message.apply(posting);
+    }
+}
@@ -0,0 +1,72 @@
+package jobs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.IntStream;
+
+/**
+ * JobRuleSet - Pluggable rules validated over every extracted job row
+ *
+ * Rules are pure functions over JobPosting snapshots, so large lists are
+ * checked with a parallel stream. Failures are aggregated per row (keyed
+ * by 1-based row number) instead of stopping at the first one.
+ */
+public class JobRuleSet {
+
+    /** Lists at least this long are validated in parallel */
+    private static final int PARALLEL_THRESHOLD = 50;
+
+    private final List<JobRule> rules = new ArrayList<>();
+
+    public JobRuleSet add(JobRule rule) {
+        rules.add(rule);
+        return this;
+    }
+
+    /**
+     * Get violations of a single posting
+     */
+    public List<String> violations(JobPosting posting) {
+        List<String> violations = new ArrayList<>();
+        for (JobRule rule : rules) {
+            String violation = rule.check(posting);
+            if (violation != null) {
+                violations.add(violation);
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Validate all rows - returns failing rows (1-based) with their violations
+     */
+    public Map<Integer, List<String>> validate(List<JobPosting> postings) {
+        Map<Integer, List<String>> failures = new ConcurrentSkipListMap<>();
+        IntStream rows = IntStream.range(0, postings.size());
+        if (postings.size() >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(i -> {
+            List<String> violations = violations(postings.get(i));
+            if (!violations.isEmpty()) {
+                failures.put(i + 1, violations);
+            }
+        });
+        return Collections.unmodifiableMap(new TreeMap<>(failures));
+    }
+
+    /**
+     * Format failures as one line per failing row
+     */
+    public static String describe(Map<Integer, List<String>> failures, List<JobPosting> postings) {
+        StringBuilder description = new StringBuilder();
+        failures.forEach((row, violations) -> description
+                .append("Job ").append(row).append(" [").append(postings.get(row - 1)).append("]: ")
+                .append(String.join("; ", violations)).append('\n'));
+        return description.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package load;
+
+import base.Pages;
+import factory.DriverFactory;
+import pages.CareersPage;
+import pages.HomePage;
+import pages.QualityAssuranceJobsPage;
+import utils.ConfigReader;
+
+/**
+ * CareerJourneyScenario - The career flow of InsiderCareerFlowTest as load steps
+ *
+ * Uses the same page objects and checks as the functional test, so a load
+ * run also reports which validations start failing under load. Runs against
+ * the real site (or a copy with the same markup).
+ */
+public class CareerJourneyScenario implements LoadScenario {
+
+    @Override
+    public void iterate(Steps steps) {
+        steps.step("home", () -> {
+            DriverFactory.getDriver().get(ConfigReader.getBaseUrl());
+            Pages.get(HomePage.class).checkHomePageLoaded();
+        });
+        steps.step("careers", () -> {
+            Pages.get(HomePage.class).navigateToCareers();
+            Pages.get(CareersPage.class).checkCareersPageLoaded();
+        });
+        steps.step("qa overview", () -> {
+            Pages.get(CareersPage.class).navigateToQAJobs();
+            Pages.get(QualityAssuranceJobsPage.class).checkQAOverviewPageLoaded();
+        });
+        steps.step("qa jobs list", () -> {
+            Pages.get(QualityAssuranceJobsPage.class).clickSeeAllQAJobs();
+            Pages.get(QualityAssuranceJobsPage.class).checkQAJobsListPageLoaded();
+        });
+        steps.step("location filter", () -> {
+            Pages.get(QualityAssuranceJobsPage.class).applyLocationFilter();
+            Pages.get(QualityAssuranceJobsPage.class).checkFilteredJobs();
+        });
+        steps.step("lever link", () -> {
+            QualityAssuranceJobsPage qaJobsPage = Pages.get(QualityAssuranceJobsPage.class);
+            qaJobsPage.checkLeverLink(qaJobsPage.captureFirstViewRoleTarget());
+        });
+    }
+}
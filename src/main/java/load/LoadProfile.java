@@ -0,0 +1,70 @@
+package load;
+
+import utils.ConfigReader;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LoadProfile - Shape of a synthetic load run
+ *
+ * virtualUsers browser sessions start evenly spread over rampUp and repeat
+ * the scenario until rampUp plus duration has passed or each user ran
+ * iterationsPerUser times (0 = no limit). Users pause thinkTimeMin to
+ * thinkTimeMax between steps; maxIterationsPerSecond caps how many scenario
+ * iterations start per second across all users (0 = no limit).
+ * sessionSettings override the configuration for the virtual users' threads
+ * only (see ConfigReader.setThreadOverrides): headless per load.headless,
+ * and no prefetch, web vitals, network capture or pre-launched sessions, so
+ * step times measure uncached page loads rather than the test extras.
+ */
+public record LoadProfile(int virtualUsers, Duration rampUp, Duration duration, int iterationsPerUser,
+                          Duration thinkTimeMin, Duration thinkTimeMax, double maxIterationsPerSecond,
+                          Map<String, String> sessionSettings) {
+
+    public LoadProfile {
+        if (virtualUsers < 1) {
+            throw new IllegalArgumentException("At least one virtual user is required");
+        }
+        if (thinkTimeMax.compareTo(thinkTimeMin) < 0) {
+            throw new IllegalArgumentException("Maximum think time is below minimum think time");
+        }
+        sessionSettings = Collections.unmodifiableMap(new LinkedHashMap<>(sessionSettings));
+    }
+
+    /**
+     * Profile from the load.* properties
+     */
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(
+                ConfigReader.getIntProperty("load.users", 5),
+                Duration.ofSeconds(ConfigReader.getIntProperty("load.rampup.seconds", 10)),
+                Duration.ofSeconds(ConfigReader.getIntProperty("load.duration.seconds", 60)),
+                ConfigReader.getIntProperty("load.iterations", 0),
+                Duration.ofMillis(ConfigReader.getIntProperty("load.think.min.ms", 500)),
+                Duration.ofMillis(ConfigReader.getIntProperty("load.think.max.ms", 2000)),
+                Double.parseDouble(ConfigReader.getProperty("load.max.iterations.per.second", "0")),
+                defaultSessionSettings());
+    }
+    
+    private static Map<String, String> defaultSessionSettings() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("headless", String.valueOf(ConfigReader.getBooleanProperty("load.headless", true)));
+        settings.put("prefetch.enabled", "false");
+        settings.put("vitals.enabled", "false");
+        settings.put("network.capture", "false");
+        settings.put("driver.prelaunch", "false");
+        return settings;
+    }
+
+    @Override
+    public String toString() {
+        return virtualUsers + " users, ramp-up " + rampUp.toSeconds() + "s, duration " + duration.toSeconds() + "s" +
+                (iterationsPerUser > 0 ? ", " + iterationsPerUser + " iterations/user" : "") +
+                ", think " + thinkTimeMin.toMillis() + "-" + thinkTimeMax.toMillis() + "ms" +
+                (maxIterationsPerSecond > 0 ? ", max " + maxIterationsPerSecond + " iterations/s" : "") +
+                ", session " + sessionSettings;
+    }
+}
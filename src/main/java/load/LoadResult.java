@@ -0,0 +1,104 @@
+package load;
+
+import utils.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoadResult - Step latencies and errors of a load run
+ *
+ * Latencies are kept in milliseconds per step in LatencyHistograms, errors
+ * are counted per step, and iterations are counted overall. Safe to record
+ * from all virtual user threads at once.
+ */
+public class LoadResult {
+
+    private final Map<String, LatencyHistogram> histogramsByStep = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errorsByStep = new ConcurrentHashMap<>();
+    private final Map<String, Long> stepOrder = new ConcurrentHashMap<>();
+    private final AtomicLong nextStepOrder = new AtomicLong();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder failedIterations = new LongAdder();
+    private volatile Duration elapsed = Duration.ZERO;
+
+    void recordStep(String step, long millis, boolean failed) {
+        stepOrder.computeIfAbsent(step, key -> nextStepOrder.getAndIncrement());
+        histogramsByStep.computeIfAbsent(step, key -> new LatencyHistogram()).record(millis);
+        if (failed) {
+            errorsByStep.computeIfAbsent(step, key -> new LongAdder()).increment();
+        }
+    }
+
+    void recordIteration(boolean failed) {
+        iterations.increment();
+        if (failed) {
+            failedIterations.increment();
+        }
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public long getIterations() {
+        return iterations.sum();
+    }
+
+    public long getFailedIterations() {
+        return failedIterations.sum();
+    }
+
+    /**
+     * Failed iterations in percent of all iterations
+     */
+    public double getErrorRate() {
+        long total = getIterations();
+        return total == 0 ? 0 : 100.0 * getFailedIterations() / total;
+    }
+
+    /**
+     * Steps in the order they were first run
+     */
+    public List<String> getSteps() {
+        return stepOrder.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public LatencyHistogram getHistogram(String step) {
+        return histogramsByStep.get(step);
+    }
+
+    public long getErrors(String step) {
+        LongAdder errors = errorsByStep.get(step);
+        return errors == null ? 0 : errors.sum();
+    }
+
+    /**
+     * Per-step latency percentiles and error rates, plus overall throughput
+     */
+    public String buildReport(LoadProfile profile) {
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1_000.0;
+        StringBuilder report = new StringBuilder();
+        report.append("📈 LOAD RUN - ").append(profile).append('\n');
+        report.append(String.format("Iterations: %d (%d failed, %.2f%%) in %.1fs - %.2f iterations/s%n",
+                getIterations(), getFailedIterations(), getErrorRate(), seconds, getIterations() / seconds));
+        report.append(String.format("%-32s %7s %6s %7s %9s %9s %9s %9s %9s %9s%n",
+                "Step", "Count", "Errors", "Error%", "Mean(ms)", "P50(ms)", "P90(ms)", "P95(ms)", "P99(ms)", "Max(ms)"));
+        for (String step : getSteps()) {
+            LatencyHistogram histogram = getHistogram(step);
+            long errors = getErrors(step);
+            report.append(String.format("%-32s %7d %6d %6.2f%% %9.1f %9d %9d %9d %9d %9d%n",
+                    step, histogram.getCount(), errors, 100.0 * errors / Math.max(histogram.getCount(), 1),
+                    histogram.getMean(), histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(95), histogram.getValueAtPercentile(99), histogram.getMax()));
+        }
+        return report.toString();
+    }
+}
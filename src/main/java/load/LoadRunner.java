@@ -0,0 +1,202 @@
+package load;
+
+import base.Pages;
+import factory.DriverFactory;
+import factory.SessionReset;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoadRunner - Runs a scenario as concurrent virtual users
+ *
+ * Every virtual user is a thread with its own browser session, started
+ * according to the profile's ramp-up and configured by the profile's
+ * sessionSettings - set for the user threads only, so the rest of the run
+ * keeps its configuration.
+ * Between iterations the session is reset (see SessionReset) rather than
+ * relaunched, so the measured steps are the journey and not browser startup.
+ * Results are written to report.path/load-report.txt.
+ */
+public class LoadRunner {
+
+    private static final String REPORT_FILE = "load-report.txt";
+
+    private final LoadProfile profile;
+    private final LoadScenario scenario;
+    private final LoadResult result = new LoadResult();
+    private final AtomicLong nextIterationSlot = new AtomicLong();
+    private final AtomicInteger userCounter = new AtomicInteger();
+    private volatile long deadline;
+
+    public LoadRunner(LoadProfile profile, LoadScenario scenario) {
+        this.profile = profile;
+        this.scenario = scenario;
+    }
+
+    /**
+     * Run all virtual users to completion and write the report
+     */
+    public LoadResult run() {
+        LoggerUtil.info("Starting load run: " + profile);
+
+        long start = System.nanoTime();
+        deadline = start + profile.rampUp().toNanos() + profile.duration().toNanos();
+        nextIterationSlot.set(start);
+        long rampUpStepNanos = profile.rampUp().toNanos() / profile.virtualUsers();
+
+        ExecutorService users = Executors.newFixedThreadPool(profile.virtualUsers(),
+                task -> new Thread(task, "virtual-user-" + userCounter.incrementAndGet()));
+        List<Future<?>> running = new ArrayList<>();
+        for (int user = 0; user < profile.virtualUsers(); user++) {
+            long startAt = start + user * rampUpStepNanos;
+            running.add(users.submit(() -> runUser(startAt)));
+        }
+        for (Future<?> user : running) {
+            try {
+                user.get();
+            } catch (ExecutionException e) {
+                LoggerUtil.error("Virtual user failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        users.shutdownNow();
+
+        result.finish(Duration.ofNanos(System.nanoTime() - start));
+        writeReport(result.buildReport(profile));
+        return result;
+    }
+
+    // ===================================
+    // VIRTUAL USERS
+    // ===================================
+
+    private void runUser(long startAt) {
+        ConfigReader.setThreadOverrides(profile.sessionSettings());
+        try {
+            sleepUntil(startAt);
+            DriverFactory.initializeDriver();
+            int iteration = 0;
+            while (System.nanoTime() < deadline
+                    && (profile.iterationsPerUser() == 0 || iteration < profile.iterationsPerUser())) {
+                if (iteration > 0) {
+                    resetSession();
+                }
+                sleepUntil(acquireIterationSlot());
+                runIteration();
+                iteration++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            DriverFactory.quitDriver();
+            ConfigReader.clearThreadOverrides();
+        }
+    }
+
+    private void runIteration() throws InterruptedException {
+        try {
+            scenario.iterate(this::timeStep);
+            result.recordIteration(false);
+        } catch (StepFailure e) {
+            result.recordIteration(true);
+            LoggerUtil.warn("Iteration failed at step '" + e.step + "': " + e.getCause().getMessage());
+            if (e.getCause() instanceof InterruptedException) {
+                throw (InterruptedException) e.getCause();
+            }
+        }
+    }
+
+    private void timeStep(String name, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            result.recordStep(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), false);
+        } catch (RuntimeException | AssertionError e) {
+            result.recordStep(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), true);
+            throw new StepFailure(name, e);
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(profile.thinkTimeMin().toMillis(),
+                    profile.thinkTimeMax().toMillis() + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailure(name, e);
+        }
+    }
+
+    private void resetSession() {
+        if (!DriverFactory.isDriverInitialized()) {
+            DriverFactory.initializeDriver();
+            return;
+        }
+        if (SessionReset.reset(DriverFactory.getDriver())) {
+            Pages.clear(DriverFactory.getDriver());
+        } else {
+            DriverFactory.quitDriver();
+            DriverFactory.initializeDriver();
+        }
+    }
+
+    /**
+     * Start time of the next iteration allowed by load.max.iterations.per.second
+     */
+    private long acquireIterationSlot() {
+        long now = System.nanoTime();
+        if (profile.maxIterationsPerSecond() <= 0) {
+            return now;
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / profile.maxIterationsPerSecond());
+        return Math.max(now, nextIterationSlot.getAndUpdate(slot -> Math.max(slot, now) + interval));
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private void writeReport(String report) {
+        Path reportFile = Paths.get(ConfigReader.getProperty("report.path", "target/reports/"), REPORT_FILE);
+        try {
+            Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, report, StandardCharsets.UTF_8);
+            LoggerUtil.info("Load report written to: " + reportFile);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write load report", e);
+        }
+        LoggerUtil.info(report);
+    }
+
+    /**
+     * Ends an iteration at the step that failed
+     */
+    private static final class StepFailure extends RuntimeException {
+
+        private final String step;
+
+        private StepFailure(String step, Throwable cause) {
+            super(cause);
+            this.step = step;
+        }
+    }
+}
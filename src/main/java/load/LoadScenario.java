@@ -0,0 +1,22 @@
+package load;
+
+/**
+ * LoadScenario - One iteration of a virtual user's journey
+ *
+ * Runs on a thread with its own browser session bound (DriverFactory.getDriver()
+ * and Pages work as in tests). Each named step is timed separately; a failing
+ * step ends the iteration.
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    /**
+     * Times one named step of the journey
+     */
+    @FunctionalInterface
+    interface Steps {
+        void step(String name, Runnable action);
+    }
+
+    void iterate(Steps steps);
+}
@@ -0,0 +1,54 @@
+package load;
+
+import factory.DriverFactory;
+import factory.JourneyPrefetcher;
+import factory.SessionReset;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * NavigationScenario - Loads each page of the journey in turn
+ *
+ * One step per URL (named after its path), each a full page load that fails
+ * on an HTTP error status. Needs no page-specific markup, so it also runs
+ * against the fixture site used in CI.
+ */
+public class NavigationScenario implements LoadScenario {
+
+    private static final String RESPONSE_STATUS_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "return nav && nav.responseStatus ? nav.responseStatus : 0;";
+
+    private final List<String> urls;
+
+    public NavigationScenario(List<String> urls) {
+        this.urls = List.copyOf(urls);
+    }
+
+    /**
+     * Scenario over the journey pages (see JourneyPrefetcher.journey())
+     */
+    public static NavigationScenario journey() {
+        return new NavigationScenario(JourneyPrefetcher.journey());
+    }
+
+    @Override
+    public void iterate(Steps steps) {
+        for (String url : urls) {
+            steps.step("load " + URI.create(url).getPath(), () -> load(url));
+        }
+    }
+
+    private static void load(String url) {
+        WebDriver driver = DriverFactory.getDriver();
+        SessionReset.recordVisit(driver, url);
+        driver.get(url);
+        long status = (Long) ((JavascriptExecutor) driver).executeScript(RESPONSE_STATUS_SCRIPT);
+        if (status >= 400) {
+            throw new AssertionError("HTTP " + status + " for " + url);
+        }
+    }
+}
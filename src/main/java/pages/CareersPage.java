@@ -1,10 +1,14 @@
 package pages;
 
 import base.BasePage;
+import base.FindFirst;
 import io.qameta.allure.Step;
 import org.testng.Assert;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import utils.ConfigReader;
+
+import java.util.List;
 
 /**
  * CareersPage - Insider Careers Page Object
@@ -18,30 +22,30 @@ public class CareersPage extends BasePage {
     // PAGE ELEMENTS
     // ===================================
     
-    @FindBy(css = "section.elementor-section[data-id='a8e7b90']")
-    public WebElement blockLocations;
-    
-    @FindBy(css = "section.elementor-section[data-id='21cea83']") 
-    public WebElement blockTeams;
-    
-    @FindBy(css = "section.elementor-section[data-id='6c45e81']")
-    public WebElement blockLifeAtInsider;
-    
     @FindBy(css = ".career-find-our-calling h2")
     public WebElement titleFindOurCalling;
     
     @FindBy(css = ".career-our-location h2") 
     public WebElement titleOurLocation;
     
-    // Alternative locators - if main ones don't work
-    @FindBy(xpath = "//h3[contains(text(), 'Our Locations')]")
-    public WebElement locationsTitle;
-    
-    @FindBy(xpath = "//h3[contains(text(), 'Find your calling')]")
-    public WebElement teamsTitle;
-    
-    @FindBy(xpath = "//h2[contains(text(), 'Life at Insider')]")
-    public WebElement lifeAtInsiderTitle;
+    // Blocks with alternative locators - resolved together, first match wins
+    @FindFirst({
+        @FindBy(xpath = "//h3[contains(text(), 'Our Locations')]"),
+        @FindBy(css = "section.elementor-section[data-id='a8e7b90']")
+    })
+    public WebElement locationsBlock;
+    
+    @FindFirst({
+        @FindBy(xpath = "//h3[contains(text(), 'Find your calling')]"),
+        @FindBy(css = "section.elementor-section[data-id='21cea83']")
+    })
+    public WebElement teamsBlock;
+    
+    @FindFirst({
+        @FindBy(xpath = "//h2[contains(text(), 'Life at Insider')]"),
+        @FindBy(css = "section.elementor-section[data-id='6c45e81']")
+    })
+    public WebElement lifeAtInsiderBlock;
     
     // Page header element (at top of page)
     @FindBy(xpath = "//h1[normalize-space(text())='Ready to disrupt?']")
@@ -61,7 +65,14 @@ public class CareersPage extends BasePage {
     
     @Step("Navigate to QA jobs page")
     public void navigateToQAJobs() {
-        navigateToUrl("https://useinsider.com/careers/quality-assurance");
+        navigateToUrl(getQAJobsUrl());
+    }
+    
+    /**
+     * URL of the QA overview page (qa.jobs.url)
+     */
+    public String getQAJobsUrl() {
+        return ConfigReader.getProperty("qa.jobs.url", "https://useinsider.com/careers/quality-assurance/");
     }
     
     // ===================================
@@ -70,12 +81,12 @@ public class CareersPage extends BasePage {
     
     @Step("Check careers page is loaded")
     public void checkCareersPageLoaded() {
-        Assert.assertTrue(getCurrentUrl().toLowerCase().contains("careers"), "URL should contain careers!");
-        Assert.assertTrue(getPageTitle().toLowerCase().contains("ready") || 
-                         getPageTitle().toLowerCase().contains("insider"), "Page title is incorrect!");
-        
-        // Check header element at top of page (no scroll needed)
-        Assert.assertTrue(headerReadyToDisrupt.isDisplayed(), "Header 'Ready to disrupt?' not displayed!");
+        expectations()
+                .urlContains("careers", "URL should contain careers!")
+                .titleContainsAny(List.of("ready", "insider"), "Page title is incorrect!")
+                // Header element at top of page (no scroll needed)
+                .visible("headerReadyToDisrupt", "Header 'Ready to disrupt?' not displayed!")
+                .verify();
     }
     
     @Step("Check all career page blocks")
@@ -87,24 +98,21 @@ public class CareersPage extends BasePage {
     
     @Step("Check Locations block")
     public void checkLocationsBlock() {
-        boolean locationsFound = scrollUntilVisible(locationsTitle) || 
-                               scrollUntilVisible(blockLocations);
+        boolean locationsFound = scrollUntilVisible(locationsBlock);
         
         Assert.assertTrue(locationsFound, "Locations block could not be found after scrolling!");
     }
     
     @Step("Check Teams block")
     public void checkTeamsBlock() {
-        boolean teamsFound = scrollUntilVisible(teamsTitle) || 
-                           scrollUntilVisible(blockTeams);
+        boolean teamsFound = scrollUntilVisible(teamsBlock);
         
         Assert.assertTrue(teamsFound, "Teams block could not be found after scrolling!");
     }
     
     @Step("Check Life at Insider block")
     public void checkLifeAtInsiderBlock() {
-        boolean lifeAtInsiderFound = scrollUntilVisible(lifeAtInsiderTitle) || 
-                                   scrollUntilVisible(blockLifeAtInsider);
+        boolean lifeAtInsiderFound = scrollUntilVisible(lifeAtInsiderBlock);
         
         Assert.assertTrue(lifeAtInsiderFound, "Life at Insider block could not be found after scrolling!");
     }
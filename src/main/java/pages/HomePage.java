@@ -1,13 +1,12 @@
 package pages;
 
 import base.BasePage;
+import factory.InterstitialWatcher;
 import io.qameta.allure.Step;
-import org.testng.Assert;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
-import java.text.Normalizer;
-import java.util.Locale;
+import java.time.Duration;
 
 /**
  * HomePage - Insider Home Page Object
@@ -50,23 +49,24 @@ public class HomePage extends BasePage {
     @Step("Accept all cookies")
     public void acceptCookies() {
         try {
-            if (btnAcceptCookies.isDisplayed()) {
+            if (isVisibleNow("btnAcceptCookies")) {
                 click(btnAcceptCookies);
             }
         } catch (Exception e) {
-            // Cookie popup not present, continue normally
+            // Cookie popup dismissed meanwhile, continue normally
         }
     }
     
     @Step("Close tour popup if present")
     public void closeTourIfPresent() {
+        // The tour renders shortly after load - with the interstitial watcher on it is dismissed whenever it appears
+        Duration grace = InterstitialWatcher.isEnabled() ? Duration.ZERO : Duration.ofSeconds(2);
         try {
-            forceWait(2);
-            if (btnCloseTour.isDisplayed()) {
+            if (waitForOptional("btnCloseTour", grace)) {
                 click(btnCloseTour);
             }
         } catch (Exception e) {
-            // Tour popup not present, continue normally
+            // Tour popup dismissed meanwhile, continue normally
         }
     }
     
@@ -85,14 +85,11 @@ public class HomePage extends BasePage {
     
     @Step("Check home page is loaded")
     public void checkHomePageLoaded() {
-        Assert.assertTrue(logoInsider.isDisplayed(), "Logo görüntülenemedi!");
-
-        String cleanedTitle = Normalizer.normalize(getPageTitle(), Normalizer.Form.NFD)
-                .replaceAll("[^\\p{ASCII}]", "")
-                .toLowerCase(Locale.ENGLISH);
-        Assert.assertTrue(cleanedTitle.contains("individualized"), "Page title is incorrect!");
-
-        Assert.assertTrue(getCurrentUrl().contains("useinsider.com"), "URL is incorrect!");
+        expectations()
+                .visible("logoInsider", "Logo görüntülenemedi!")
+                .titleContains("individualized", "Page title is incorrect!")
+                .urlContains("useinsider.com", "URL is incorrect!")
+                .verify();
     }
     
 
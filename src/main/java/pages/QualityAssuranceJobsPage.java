@@ -1,11 +1,18 @@
 package pages;
 
 import base.BasePage;
+import base.ReadBatch;
 import io.qameta.allure.Step;
 import org.testng.Assert;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import jobs.JobCriteria;
+import jobs.JobPosting;
+import jobs.JobRuleSet;
 import utils.LoggerUtil;
 
 /**
@@ -49,15 +56,6 @@ public class QualityAssuranceJobsPage extends BasePage {
     @FindBy(css = ".position-list-item")
     public List<WebElement> jobListings;
     
-    @FindBy(css = ".position-title")
-    public List<WebElement> jobTitles;
-    
-    @FindBy(css = ".position-department")
-    public List<WebElement> jobDepartments;
-    
-    @FindBy(css = ".position-location")
-    public List<WebElement> jobLocations;
-    
     @FindBy(css = ".btn.btn-navy[href*='jobs.lever.co']")
     public List<WebElement> viewRoleButtons;
     
@@ -65,6 +63,22 @@ public class QualityAssuranceJobsPage extends BasePage {
     @FindBy(css = "#resultCounter .totalResult")
     public WebElement totalResultCount;
     
+    // Row snapshot - title, department, location and role link of each jobListings row, read in one call
+    private static final String JOB_ROWS_SCRIPT =
+            "function text(row, selector) {" +
+            "  var cell = row.querySelector(selector);" +
+            "  return cell ? cell.innerText.trim() : '';" +
+            "}" +
+            "return Array.from(document.querySelectorAll('.position-list-item')).map(function(row) {" +
+            "  var link = row.querySelector(\"a[href*='jobs.lever.co']\");" +
+            "  return {" +
+            "    title: text(row, '.position-title')," +
+            "    department: text(row, '.position-department')," +
+            "    location: text(row, '.position-location')," +
+            "    url: link ? link.href : null" +
+            "  };" +
+            "});";
+    
     // ===================================
     // CONSTRUCTOR
     // ===================================
@@ -107,19 +121,32 @@ public class QualityAssuranceJobsPage extends BasePage {
     
     @Step("Click first View Role button")
     public void clickFirstViewRole() {
+        fastClick(revealFirstViewRoleButton());
+    }
+    
+    @Step("Capture first View Role link target")
+    public String captureFirstViewRoleTarget() {
+        WebElement firstViewRoleButton = revealFirstViewRoleButton();
+        
+        // The button opens Lever in a new tab - capture the destination instead of loading it,
+        // and let the browser fetch it while the link is validated
+        String target = captureNewWindowTarget(() -> fastClick(firstViewRoleButton));
+        prefetch(target);
+        return target;
+    }
+    
+    /**
+     * Hover the first job listing and return its View Role button
+     */
+    private WebElement revealFirstViewRoleButton() {
         // Fresh element lookup to avoid stale reference
         List<WebElement> currentJobListings = jobListings;
         Assert.assertFalse(currentJobListings.isEmpty(), "No job listings found!");
+        hover(currentJobListings.get(0));
         
-        // Get first job block and hover quickly
-        WebElement firstJobBlock = currentJobListings.get(0);
-        hover(firstJobBlock);
-        
-        // Quick click View Role button with fresh lookup
         List<WebElement> currentViewRoleButtons = viewRoleButtons;
         Assert.assertFalse(currentViewRoleButtons.isEmpty(), "No View Role buttons found after hover!");
-        WebElement firstViewRoleButton = currentViewRoleButtons.get(0);
-        fastClick(firstViewRoleButton);
+        return currentViewRoleButtons.get(0);
     }
     
     // ===================================
@@ -128,67 +155,84 @@ public class QualityAssuranceJobsPage extends BasePage {
     
     @Step("Check QA overview page is loaded")
     public void checkQAOverviewPageLoaded() {
-        String currentUrl = getCurrentUrl().toLowerCase();
-        Assert.assertTrue(currentUrl.contains("quality-assurance"), 
-                         "URL should contain quality-assurance! Current URL: " + currentUrl);
-        
-        Assert.assertTrue(qaOverviewTitle.isDisplayed(), 
-                         "QA Overview title not displayed!");
-        
-        Assert.assertTrue(btnSeeAllQAJobs.isDisplayed(), 
-                         "See all QA jobs button not displayed!");
+        expectations()
+                .urlContains("quality-assurance", "URL should contain quality-assurance!")
+                .visible("qaOverviewTitle", "QA Overview title not displayed!")
+                .visible("btnSeeAllQAJobs", "See all QA jobs button not displayed!")
+                .verify();
     }
     
     @Step("Check QA jobs list page is loaded")
     public void checkQAJobsListPageLoaded() {
-        String currentUrl = getCurrentUrl().toLowerCase();
-        Assert.assertTrue(currentUrl.contains("open-positions"), 
-                         "URL should contain open-positions! Current URL: " + currentUrl);
-        
+        expectations()
+                .urlContains("open-positions", "URL should contain open-positions!")
+                .verify();
     }
     
     @Step("Check all filtered jobs meet criteria")
     public void checkFilteredJobs() {
-        // Check that we have jobs (no wait)
-        Assert.assertFalse(jobListings.isEmpty(), "Filtered job list is empty!");
-        
-        int jobCount = jobListings.size();
-        LoggerUtil.info("Found " + jobCount + " job listings after filtering");
+        checkFilteredJobs(JobCriteria.qaJobsInIstanbul().rules());
+    }
+    
+    @Step("Check all filtered jobs meet rule set")
+    public void checkFilteredJobs(JobRuleSet rules) {
+        // Snapshot every row once, then validate all of them off the browser
+        List<JobPosting> jobs = snapshotJobListings();
+        Assert.assertFalse(jobs.isEmpty(), "Filtered job list is empty!");
+        LoggerUtil.info("Found " + jobs.size() + " job listings after filtering");
         
-        // Check only first 3 jobs for speed
-        int jobsToCheck = Math.min(jobCount, 3);
+        for (int i = 0; i < jobs.size(); i++) {
+            LoggerUtil.info("Job " + (i+1) + " - " + jobs.get(i));
+        }
         
-        for (int i = 0; i < jobsToCheck; i++) {
-            String jobTitle = jobTitles.get(i).getText();
-            String jobDepartment = jobDepartments.get(i).getText();
-            String jobLocation = jobLocations.get(i).getText();
-            
-            LoggerUtil.info("Job " + (i+1) + " - Title: '" + jobTitle + "', Department: '" + jobDepartment + "', Location: '" + jobLocation + "'");
-            
-            // Quick validations
-            Assert.assertTrue(
-                jobTitle.toLowerCase().contains("quality assurance") || 
-                jobTitle.toLowerCase().contains("qa") || 
-                jobTitle.toLowerCase().contains("test"),
-                "Job title is not QA related: '" + jobTitle + "'"
-            );
-            
-            Assert.assertEquals(jobDepartment, "Quality Assurance",
-                "Department is not Quality Assurance: '" + jobDepartment + "'");
-            
-            Assert.assertEquals(jobLocation, "Istanbul, Turkiye",
-                "Location is not Istanbul, Turkiye: '" + jobLocation + "'");
+        Map<Integer, List<String>> failures = rules.validate(jobs);
+        Assert.assertTrue(failures.isEmpty(), failures.size() + " of " + jobs.size() +
+                " jobs do not meet criteria:\n" + JobRuleSet.describe(failures, jobs));
+    }
+    
+    /**
+     * Extract title, department, location and Lever link of every job row in one script call
+     * 
+     * Waits (adaptive timeout, at most the explicit wait) for the list to render at least one row.
+     */
+    public List<JobPosting> snapshotJobListings() {
+        try {
+            return waitUntil(pageName + ".jobRows", d -> {
+                List<JobPosting> jobs = new ArrayList<>();
+                for (Object row : (List<?>) js.executeScript(JOB_ROWS_SCRIPT)) {
+                    Map<?, ?> cells = (Map<?, ?>) row;
+                    jobs.add(new JobPosting((String) cells.get("title"), (String) cells.get("department"),
+                            (String) cells.get("location"), (String) cells.get("url")));
+                }
+                return jobs.isEmpty() ? null : jobs;
+            });
+        } catch (TimeoutException e) {
+            return new ArrayList<>();
         }
     }
     
+    @Step("Check View Role link points to Lever: {leverUrl}")
+    public void checkLeverLink(String leverUrl) {
+        Assert.assertNotNull(leverUrl, "View Role did not open any link!");
+        String url = leverUrl.toLowerCase();
+        Assert.assertTrue(url.startsWith("https://jobs.lever.co/"),
+                         "View Role link does not point to a Lever application page! Link: " + leverUrl);
+    }
+    
     @Step("Check Lever application page redirect")
     public void checkLeverRedirect() {
-        String currentUrl = getCurrentUrl().toLowerCase();
+        // URL and title in one round trip
+        ReadBatch batch = reads();
+        ReadBatch.Key<String> urlKey = batch.url();
+        ReadBatch.Key<String> titleKey = batch.title();
+        ReadBatch.Result page = batch.execute();
+        
+        String currentUrl = page.get(urlKey).toLowerCase();
         Assert.assertTrue(currentUrl.contains("jobs.lever.co") || 
                          currentUrl.contains("lever"),
                          "Not redirected to Lever application page! Current URL: " + currentUrl);
         
-        String pageTitle = getPageTitle().toLowerCase();
+        String pageTitle = page.get(titleKey).toLowerCase();
         // More flexible title check - should contain either job-related or company-related terms
         Assert.assertTrue(pageTitle.contains("quality") || 
                          pageTitle.contains("engineer") || 
@@ -3,6 +3,7 @@ package utils;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -15,6 +16,7 @@ public class ConfigReader {
     
     private static Properties properties;
     private static final String CONFIG_FILE_PATH = "src/main/resources/config.properties";
+    private static final ThreadLocal<Map<String, String>> threadOverrides = ThreadLocal.withInitial(Map::of);
     
     static {
         loadProperties();
@@ -52,11 +54,28 @@ public class ConfigReader {
         }
     }
     
+    /**
+     * Override properties for the current thread only, e.g. the sessions of load virtual users
+     */
+    public static void setThreadOverrides(Map<String, String> overrides) {
+        threadOverrides.set(Map.copyOf(overrides));
+    }
+    
+    /**
+     * Remove the current thread's overrides
+     */
+    public static void clearThreadOverrides() {
+        threadOverrides.remove();
+    }
+    
     /**
      * Get string property with default value
      */
     public static String getProperty(String key, String defaultValue) {
-        String value = System.getProperty(key); // Check system properties first
+        String value = threadOverrides.get().get(key); // Thread overrides win over everything
+        if (value == null) {
+            value = System.getProperty(key); // Check system properties first
+        }
         if (value == null) {
             value = properties.getProperty(key, defaultValue);
         }
@@ -0,0 +1,157 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EventStream - Structured JSON-lines stream of framework actions
+ *
+ * Every step, element action, navigation and verification is recorded with
+ * timestamp, thread, test id, action type, element, locator and duration.
+ * Producers only append to a lock-free queue; a single daemon thread drains
+ * it into events.path (default target/logs/events.jsonl). The queue is
+ * bounded by events.buffer.size - events beyond it are dropped and counted
+ * rather than blocking a test thread. New drops are logged as a warning on
+ * flush, and the total is written as a final "events.dropped" event at
+ * shutdown.
+ *
+ * Analyse a run with EventStreamReader.
+ */
+public final class EventStream {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final long FLUSH_INTERVAL_MS = 200;
+
+    private static final boolean enabled = ConfigReader.getBooleanProperty("events.enabled", true);
+    private static final int capacity = ConfigReader.getIntProperty("events.buffer.size", 65536);
+    private static final Path eventsFile = Paths.get(ConfigReader.getProperty("events.path", "target/logs/events.jsonl"));
+
+    private static final Queue<Map<String, Object>> buffer = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger buffered = new AtomicInteger();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static long reportedDrops;
+
+    static {
+        if (enabled) {
+            Thread writer = new Thread(EventStream::writeLoop, "event-stream-writer");
+            writer.setDaemon(true);
+            writer.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(EventStream::close, "event-stream-flush"));
+        }
+    }
+
+    private EventStream() {
+    }
+
+    /**
+     * Record an event without duration or element
+     */
+    public static void record(String action, String detail) {
+        record(action, null, null, -1, detail);
+    }
+
+    /**
+     * Record an event - durationMs is -1 when not measured
+     */
+    public static void record(String action, String element, String locator, long durationMs, String detail) {
+        if (!enabled) {
+            return;
+        }
+        if (buffered.incrementAndGet() > capacity) {
+            buffered.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        buffer.offer(event(action, element, locator, durationMs, detail));
+    }
+
+    /**
+     * Number of events dropped because the buffer was full
+     */
+    public static long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Drain buffered events to the events file
+     */
+    public static synchronized void flush() {
+        reportDrops();
+        if (buffer.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(eventsFile.toAbsolutePath().getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(eventsFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                Map<String, Object> event;
+                while ((event = buffer.poll()) != null) {
+                    buffered.decrementAndGet();
+                    writer.write(mapper.writeValueAsString(event));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            LoggerUtil.warn("Failed to write event stream: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Final flush at shutdown - appends the total drop count as the last event
+     */
+    private static synchronized void close() {
+        long drops = droppedCount();
+        if (drops > 0) {
+            buffered.incrementAndGet();
+            buffer.offer(event("events.dropped", null, null, -1, String.valueOf(drops)));
+        }
+        flush();
+    }
+
+    private static synchronized void reportDrops() {
+        long drops = droppedCount();
+        if (drops > reportedDrops) {
+            LoggerUtil.warn("Event stream dropped " + (drops - reportedDrops) + " events (" + drops
+                    + " in total) - raise events.buffer.size");
+            reportedDrops = drops;
+        }
+    }
+
+    private static Map<String, Object> event(String action, String element, String locator, long durationMs, String detail) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("ts", System.currentTimeMillis());
+        event.put("thread", Thread.currentThread().getName());
+        event.put("testId", LoggerUtil.currentTestId());
+        event.put("action", action);
+        event.put("element", element);
+        event.put("locator", locator);
+        event.put("durationMs", durationMs);
+        event.put("detail", detail);
+        return event;
+    }
+
+    private static void writeLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(FLUSH_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * EventStreamReader - Latency summary of an EventStream file
+ *
+ * Usage: EventStreamReader [events.jsonl] [action|test|day]
+ *
+ * Groups timed events (durationMs >= 0) by the chosen key - action type by
+ * default, "test" for action per test id, "day" for action per UTC day to
+ * follow latency trends across appended CI runs - and prints count, mean,
+ * p50, p95 and max in milliseconds. Events the writer dropped (recorded as
+ * "events.dropped" at shutdown) are reported above the table.
+ */
+public final class EventStreamReader {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private EventStreamReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : ConfigReader.getProperty("events.path", "target/logs/events.jsonl"));
+        String groupBy = args.length > 1 ? args[1] : "action";
+        System.out.print(summarize(file, groupBy));
+    }
+
+    /**
+     * Build the latency table for an events file
+     */
+    public static String summarize(Path file, String groupBy) throws IOException {
+        Map<String, List<Long>> durations = new TreeMap<>();
+        long events = 0;
+        long dropped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode event = mapper.readTree(line);
+                events++;
+                if ("events.dropped".equals(event.path("action").asText())) {
+                    dropped += event.path("detail").asLong(0);
+                    continue;
+                }
+                long duration = event.path("durationMs").asLong(-1);
+                if (duration < 0) {
+                    continue;
+                }
+                durations.computeIfAbsent(groupKey(event, groupBy), key -> new ArrayList<>()).add(duration);
+            }
+        }
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%d events in %s%n", events, file));
+        if (dropped > 0) {
+            table.append(String.format("%d events dropped by full buffers - raise events.buffer.size%n", dropped));
+        }
+        table.append(String.format("%-60s %7s %9s %9s %9s %9s%n", "GROUP", "COUNT", "MEAN", "P50", "P95", "MAX"));
+        durations.forEach((key, values) -> {
+            Collections.sort(values);
+            double mean = values.stream().mapToLong(Long::longValue).average().orElse(0);
+            table.append(String.format("%-60s %7d %9.1f %9d %9d %9d%n", key, values.size(), mean,
+                    percentile(values, 50), percentile(values, 95), values.get(values.size() - 1)));
+        });
+        return table.toString();
+    }
+
+    private static String groupKey(JsonNode event, String groupBy) {
+        String action = event.path("action").asText();
+        return switch (groupBy) {
+            case "test" -> event.path("testId").asText("-") + " " + action;
+            case "day" -> Instant.ofEpochMilli(event.path("ts").asLong()).atZone(ZoneOffset.UTC).toLocalDate() + " " + action;
+            default -> action;
+        };
+    }
+
+    /** Nearest-rank percentile of a sorted list */
+    private static long percentile(List<Long> sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+}
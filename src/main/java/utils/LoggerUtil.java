@@ -2,17 +2,32 @@ package utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.routing.RoutingAppender;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * LoggerUtil - Centralized Logging Utility
  * 
  * Provides a clean interface for logging throughout the framework
  * Wraps Log4j2 functionality with convenience methods
+ * Routes each test's lines into its own log file (see startTestLog)
+ * Mirrors step, action and verification calls into EventStream
  */
 public class LoggerUtil {
     
     private static final Logger logger = LogManager.getLogger(LoggerUtil.class);
     
+    private static final String TEST_ID_KEY = "testId";
+    private static final String TEST_LOG_ROUTING_APPENDER = "TestLogRoutingAppender";
+    private static final String TEST_LOG_DIRECTORY = "target/logs/tests";
+    private static final AtomicLong testLogSequence = new AtomicLong();
+    
     /**
      * Log info message
      */
@@ -88,6 +103,7 @@ public class LoggerUtil {
      */
     public static void stepStart(String stepDescription) {
         logger.info("▶ STEP START: " + stepDescription);
+        EventStream.record("step.start", stepDescription);
     }
     
     /**
@@ -95,6 +111,7 @@ public class LoggerUtil {
      */
     public static void stepEnd(String stepDescription) {
         logger.info("✓ STEP COMPLETE: " + stepDescription);
+        EventStream.record("step.end", stepDescription);
     }
     
     /**
@@ -122,6 +139,7 @@ public class LoggerUtil {
         } else {
             logger.error("✗ ASSERTION FAILED: " + description);
         }
+        EventStream.record(passed ? "assertion.passed" : "assertion.failed", description);
     }
     
     /**
@@ -129,6 +147,7 @@ public class LoggerUtil {
      */
     public static void browserAction(String action) {
         logger.info("🌐 BROWSER: " + action);
+        EventStream.record("browser", action);
     }
     
     /**
@@ -136,6 +155,7 @@ public class LoggerUtil {
      */
     public static void elementAction(String action, String element) {
         logger.info("🎯 ELEMENT: " + action + " on " + element);
+        EventStream.record(action, element, null, -1, null);
     }
     
     /**
@@ -143,6 +163,7 @@ public class LoggerUtil {
      */
     public static void navigation(String action) {
         logger.info("🧭 NAVIGATION: " + action);
+        EventStream.record("navigation", action);
     }
     
     /**
@@ -154,6 +175,51 @@ public class LoggerUtil {
         } else {
             logger.error("❌ VERIFICATION FAILED: " + description);
         }
+        EventStream.record(result ? "verification.passed" : "verification.failed", description);
+    }
+    
+    // ===================================
+    // PER-TEST LOG ROUTING
+    // ===================================
+    
+    /**
+     * Start routing this thread's log lines into a dedicated per-test file
+     * 
+     * Returns the test id put in ThreadContext - unique per test invocation.
+     */
+    public static String startTestLog(String testName) {
+        String testId = testName.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + testLogSequence.incrementAndGet();
+        ThreadContext.put(TEST_ID_KEY, testId);
+        return testId;
+    }
+    
+    /**
+     * Get test id of the current thread, or null outside a test
+     */
+    public static String currentTestId() {
+        return ThreadContext.get(TEST_ID_KEY);
+    }
+    
+    /**
+     * Stop routing for the current test and close its file
+     * 
+     * Closing the memory-mapped appender truncates the file to its content,
+     * so the returned file is complete and can be attached to the report.
+     * Returns null when no test log was started on this thread.
+     */
+    public static Path finishTestLog() {
+        String testId = currentTestId();
+        if (testId == null) {
+            return null;
+        }
+        ThreadContext.remove(TEST_ID_KEY);
+        
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Appender appender = context.getConfiguration().getAppender(TEST_LOG_ROUTING_APPENDER);
+        if (appender instanceof RoutingAppender routingAppender) {
+            routingAppender.deleteAppender(testId);
+        }
+        return Paths.get(TEST_LOG_DIRECTORY, testId + ".log");
     }
     
     /**
@@ -1,6 +1,13 @@
 package tests;
 
+import base.AdaptiveTimeouts;
+import base.FallbackElementLocator;
+import base.LocatorProfiler;
+import factory.CommandMetrics;
 import factory.DriverFactory;
+import factory.UsesBrowser;
+import factory.WebVitals;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -9,6 +16,12 @@ import org.testng.annotations.*;
 import utils.ConfigReader;
 import utils.LoggerUtil;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
  * BaseTest - Foundation for all test classes
  * 
@@ -19,7 +32,7 @@ import utils.LoggerUtil;
  * - Allure reporting integration
  * - Configuration management
  */
-public abstract class BaseTest {
+public abstract class BaseTest implements UsesBrowser {
     
     // ===================================
     // TEST SETUP AND TEARDOWN
@@ -27,22 +40,28 @@ public abstract class BaseTest {
     
     @BeforeMethod(alwaysRun = true)
     @Parameters({"browser", "headless"})
-    public void setUp(@Optional("chrome") String browser, 
-                      @Optional("false") String headless) {
+    public void setUp(@Optional("") String browser, 
+                      @Optional("") String headless,
+                      Method testMethod) {
         
+        // Route this thread's log lines into the test's own file
+        LoggerUtil.startTestLog(this.getClass().getSimpleName() + "." + testMethod.getName());
         LoggerUtil.testStart(this.getClass().getSimpleName());
         
         try {
-            // Override config with parameters if provided
-            System.setProperty("browser", browser);
-            System.setProperty("headless", headless);
+            // Override config with this test's parameters if provided (explicit -Dbrowser/-Dheadless win)
+            ConfigReader.setThreadOverrides(DriverFactory.browserParameters(browser, headless));
             
             // Initialize WebDriver
             DriverFactory.initializeDriver();
             
-            // Navigate to base URL
+            // Navigate to base URL - pre-launched sessions have it loaded already
             String baseUrl = ConfigReader.getBaseUrl();
-            DriverFactory.navigateToUrl(baseUrl);
+            if (DriverFactory.isAtUrl(baseUrl)) {
+                LoggerUtil.info("Base URL already loaded");
+            } else {
+                DriverFactory.navigateToUrl(baseUrl);
+            }
             
             LoggerUtil.info("Test setup completed successfully");
             LoggerUtil.info("Browser: " + DriverFactory.getCurrentBrowser());
@@ -59,6 +78,12 @@ public abstract class BaseTest {
     public void tearDown(ITestResult result) {
         
         try {
+            // Profile locators and record vitals of the page the test finished on
+            if (DriverFactory.isDriverInitialized()) {
+                LocatorProfiler.profileIfNewPage(DriverFactory.getDriver());
+                WebVitals.capture(DriverFactory.getDriver());
+            }
+            
             // Take screenshot on failure
             if (result.getStatus() == ITestResult.FAILURE) {
                 LoggerUtil.error("Test failed: " + result.getName());
@@ -72,11 +97,13 @@ public abstract class BaseTest {
         } catch (Exception e) {
             LoggerUtil.error("Error during test teardown", e);
         } finally {
-            // Always quit driver
+            // Always release driver - quit, or reset for the next test with driver.reuse
             if (DriverFactory.isDriverInitialized()) {
-                DriverFactory.quitDriver();
-                LoggerUtil.info("WebDriver closed successfully");
+                DriverFactory.releaseDriver();
             }
+            ConfigReader.clearThreadOverrides();
+            CommandMetrics.logTestSummary(LoggerUtil.currentTestId());
+            attachTestLog();
         }
     }
     
@@ -92,6 +119,13 @@ public abstract class BaseTest {
     
     @AfterSuite(alwaysRun = true)
     public void suiteTeardown() {
+        DriverFactory.quitAllDrivers();
+        LocatorProfiler.writeReport();
+        FallbackElementLocator.logUsageSummary();
+        CommandMetrics.writeReport();
+        AdaptiveTimeouts.save();
+        WebVitals.writeReport();
+        
         LoggerUtil.info("=".repeat(80));
         LoggerUtil.info("🏁 TEST SUITE COMPLETED: " + this.getClass().getSimpleName());
         LoggerUtil.info("=".repeat(80));
@@ -119,6 +153,21 @@ public abstract class BaseTest {
         return new byte[0];
     }
     
+    /**
+     * Close the current test's log file and attach it to the Allure report
+     */
+    private void attachTestLog() {
+        Path testLog = LoggerUtil.finishTestLog();
+        if (testLog == null || !Files.exists(testLog)) {
+            return;
+        }
+        try (InputStream content = Files.newInputStream(testLog)) {
+            Allure.addAttachment("Test Log", "text/plain", content, ".log");
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to attach test log: " + testLog, e);
+        }
+    }
+    
     /**
      * Take screenshot manually (for debugging)
      */
@@ -173,17 +222,4 @@ public abstract class BaseTest {
             throw new AssertionError("Assertion failed: " + message);
         }
     }
-    
-    /**
-     * Soft assertion with logging (doesn't stop test execution)
-     */
-    protected boolean softAssertWithLogging(boolean condition, String message) {
-        if (condition) {
-            LoggerUtil.assertion(message, true);
-            return true;
-        } else {
-            LoggerUtil.assertion(message, false);
-            return false;
-        }
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,95 @@
+package tests;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.*;
+import load.CareerJourneyScenario;
+import load.LoadProfile;
+import load.LoadResult;
+import load.LoadRunner;
+import load.LoadScenario;
+import load.NavigationScenario;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CareerJourneyLoadTest - Synthetic concurrent-user load run (testng-load.xml, mvn test -Pload)
+ *
+ * Runs the career journey as load.users headless virtual users and fails
+ * when more than load.max.error.rate percent of iterations fail. Runs the
+ * navigation scenario against a local fixture site serving
+ * fixtures/site unless -Dload.target.live=true, where load.scenario picks
+ * "navigation" or "career" (page objects, real markup) against base.url.
+ */
+@Epic("Insider Career Journey")
+@Feature("Load")
+public class CareerJourneyLoadTest {
+
+    private static final String FIXTURE_SITE = "/fixtures/site";
+
+    private HttpServer fixtureServer;
+    private LoadScenario scenario;
+
+    @BeforeClass(alwaysRun = true)
+    public void startTarget() throws IOException {
+        if (ConfigReader.getBooleanProperty("load.target.live", false)) {
+            scenario = "career".equalsIgnoreCase(ConfigReader.getProperty("load.scenario", "navigation"))
+                    ? new CareerJourneyScenario() : NavigationScenario.journey();
+            return;
+        }
+
+        fixtureServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        fixtureServer.createContext("/", this::serveFixture);
+        fixtureServer.start();
+
+        String site = "http://127.0.0.1:" + fixtureServer.getAddress().getPort();
+        LoggerUtil.info("Serving fixture site at: " + site);
+        scenario = new NavigationScenario(List.of(site + "/", site + "/careers/", site + "/careers/quality-assurance/",
+                site + "/careers/open-positions/?department=qualityassurance"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopTarget() {
+        if (fixtureServer != null) {
+            fixtureServer.stop(0);
+        }
+    }
+
+    @Test(description = "Career journey under concurrent virtual users stays within the error budget")
+    @Story("Synthetic load")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCareerJourneyUnderLoad() {
+        LoadProfile profile = LoadProfile.fromConfig();
+        LoadResult result = new LoadRunner(profile, scenario).run();
+        Allure.addAttachment("Load Report", "text/plain", result.buildReport(profile), ".txt");
+
+        double maxErrorRate = Double.parseDouble(ConfigReader.getProperty("load.max.error.rate", "1.0"));
+        Assert.assertTrue(result.getIterations() > 0, "No load iterations completed!");
+        Assert.assertTrue(result.getErrorRate() <= maxErrorRate, String.format(
+                "Error rate %.2f%% exceeds %.2f%% (%d of %d iterations failed)",
+                result.getErrorRate(), maxErrorRate, result.getFailedIterations(), result.getIterations()));
+    }
+
+    private void serveFixture(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String resource = FIXTURE_SITE + (path.endsWith("/") ? path + "index.html" : path);
+        try (InputStream fixture = getClass().getResourceAsStream(resource);
+             OutputStream body = exchange.getResponseBody()) {
+            byte[] content = fixture != null ? fixture.readAllBytes() : "Not found".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", resource.endsWith(".html") ? "text/html; charset=utf-8" : "text/plain");
+            exchange.sendResponseHeaders(fixture != null ? 200 : 404, content.length);
+            body.write(content);
+        }
+    }
+}
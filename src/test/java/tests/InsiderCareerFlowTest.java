@@ -1,12 +1,15 @@
 package tests;
 
+import base.Pages;
 import io.qameta.allure.*;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import pages.CareersPage;
 import pages.HomePage;
 import pages.QualityAssuranceJobsPage;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * InsiderCareerFlowTest - End-to-End Career Journey Test
  * 
@@ -16,19 +19,20 @@ import pages.QualityAssuranceJobsPage;
 @Feature("End-to-End User Flow")
 public class InsiderCareerFlowTest extends BaseTest {
     
-    // Page objects
-    private HomePage homePage;
-    private CareersPage careersPage;
-    private QualityAssuranceJobsPage qaJobsPage;
+    // ===================================
+    // PAGE OBJECTS (built lazily on first use)
+    // ===================================
+    
+    private HomePage homePage() {
+        return Pages.get(HomePage.class);
+    }
+    
+    private CareersPage careersPage() {
+        return Pages.get(CareersPage.class);
+    }
     
-    /**
-     * Initialize page objects after WebDriver setup
-     */
-    @BeforeMethod(dependsOnMethods = "setUp")
-    public void initializePageObjects() {
-        homePage = new HomePage();
-        careersPage = new CareersPage();
-        qaJobsPage = new QualityAssuranceJobsPage();
+    private QualityAssuranceJobsPage qaJobsPage() {
+        return Pages.get(QualityAssuranceJobsPage.class);
     }
     
     @Test(description = "Complete Insider Career Journey - Single End-to-End Scenario")
@@ -41,49 +45,58 @@ public class InsiderCareerFlowTest extends BaseTest {
         // STEP 1: HOME PAGE VALIDATION
         // ===========================================
         logTestStep("Step 1: Verify home page is loaded");
-        homePage.checkHomePageLoaded();
+        homePage().checkHomePageLoaded();
         
         // ===========================================
         // STEP 2: NAVIGATE TO CAREERS PAGE
         // ===========================================
         logTestStep("Step 2: Navigate to Company > Careers page and verify");
-        homePage.navigateToCareers();
-        careersPage.checkCareersPageLoaded();
-        careersPage.checkAllBlocks();
+        homePage().navigateToCareers();
+        careersPage().checkCareersPageLoaded();
         
         // ===========================================
-        // STEP 3: NAVIGATE TO QA OVERVIEW PAGE
+        // STEP 3: VALIDATE CAREERS BLOCKS AND QA OVERVIEW IN PARALLEL TABS
         // ===========================================
-        logTestStep("Step 3: Navigate to QA overview page");
-        careersPage.navigateToQAJobs();
-        qaJobsPage.checkQAOverviewPageLoaded();
+        logTestStep("Step 3: Verify careers blocks and QA overview page in parallel tabs");
+        Map<String, Runnable> validations = new LinkedHashMap<>();
+        validations.put(careersPage().getCurrentUrl(), () -> careersPage().checkAllBlocks());
+        validations.put(careersPage().getQAJobsUrl(), () -> qaJobsPage().checkQAOverviewPageLoaded());
+        // The QA overview tab stays open as the working tab for the next steps
+        careersPage().validateInTabs(validations, careersPage().getQAJobsUrl());
         
         // ===========================================
         // STEP 4: CLICK "SEE ALL QA JOBS" BUTTON
         // ===========================================
         logTestStep("Step 4: Click See all QA jobs button");
-        qaJobsPage.clickSeeAllQAJobs();
-        qaJobsPage.checkQAJobsListPageLoaded();
+        qaJobsPage().clickSeeAllQAJobs();
+        qaJobsPage().checkQAJobsListPageLoaded();
         
         // ===========================================
         // STEP 5: APPLY LOCATION FILTER
         // ===========================================
         logTestStep("Step 5: Apply location filter (Istanbul, Turkiye)");
-        qaJobsPage.applyLocationFilter();
+        qaJobsPage().applyLocationFilter();
         
         // ===========================================
         // STEP 6: VALIDATE FILTERED JOBS
         // ===========================================
         logTestStep("Step 6: Validate filtered jobs criteria");
-        qaJobsPage.checkFilteredJobs();
+        qaJobsPage().checkFilteredJobs();
         
         // ===========================================
         // STEP 7: LEVER REDIRECT VALIDATION
         // ===========================================
         logTestStep("Step 7: Click View Role button and verify Lever redirect");
-        qaJobsPage.clickFirstViewRole();
-        homePage.switchToNewWindow();
-        qaJobsPage.checkLeverRedirect();
+        String leverUrl = qaJobsPage().captureFirstViewRoleTarget();
+        qaJobsPage().checkLeverLink(leverUrl);
+        qaJobsPage().followCapturedLink(leverUrl);
+        qaJobsPage().checkLeverRedirect();
+        
+        // ===========================================
+        // STEP 8: PAGE PERFORMANCE BUDGETS
+        // ===========================================
+        logTestStep("Step 8: Verify page performance budgets");
+        qaJobsPage().checkPerformanceBudgets();
         
         // Test completed successfully
         logTestStep("✅ All steps completed successfully!");
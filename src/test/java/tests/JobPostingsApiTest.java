@@ -0,0 +1,171 @@
+package tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.*;
+import jobs.JobCriteria;
+import jobs.JobPosting;
+import jobs.JobPostingsClient;
+import jobs.JobRuleSet;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JobPostingsApiTest - Browserless job listing validation
+ *
+ * Validates QA jobs in Istanbul straight from the postings feed using the
+ * same criteria as the browser journey. Runs against a local stand-in
+ * server serving fixtures/lever-postings.json unless -Djobs.api.live=true.
+ */
+@Epic("Insider Career Journey")
+@Feature("Job Postings API")
+public class JobPostingsApiTest {
+
+    private static final String FIXTURE = "/fixtures/lever-postings.json";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private HttpServer standInServer;
+    private JobPostingsClient client;
+
+    @BeforeClass(alwaysRun = true)
+    public void startPostingsSource() throws IOException {
+        if (ConfigReader.getBooleanProperty("jobs.api.live", false)) {
+            client = new JobPostingsClient();
+            return;
+        }
+
+        standInServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        standInServer.createContext("/v0/postings/useinsider", exchange -> servePostings(exchange, true));
+        // Source that ignores the team/location query, i.e. returns wrongly tagged postings
+        standInServer.createContext("/v0/postings/misfiltered", exchange -> servePostings(exchange, false));
+        standInServer.start();
+
+        String url = standInUrl("useinsider");
+        LoggerUtil.info("Serving stand-in job postings at: " + url);
+        client = new JobPostingsClient(url);
+    }
+
+    /**
+     * Serve the fixture, filtered by Lever's team/location query parameters when honoring the query
+     */
+    private void servePostings(HttpExchange exchange, boolean honorQuery) throws IOException {
+        try (InputStream fixture = getClass().getResourceAsStream(FIXTURE);
+             OutputStream body = exchange.getResponseBody()) {
+            ArrayNode postings = (ArrayNode) mapper.readTree(fixture);
+            Map<String, String> query = queryParameters(exchange.getRequestURI().getRawQuery());
+            ArrayNode returned = mapper.createArrayNode();
+            for (JsonNode posting : postings) {
+                JsonNode categories = posting.path("categories");
+                boolean matches = !honorQuery || query.entrySet().stream()
+                        .filter(parameter -> Set.of("team", "location").contains(parameter.getKey()))
+                        .allMatch(parameter -> parameter.getValue().equals(categories.path(parameter.getKey()).asText()));
+                if (matches) {
+                    returned.add(posting);
+                }
+            }
+            byte[] json = mapper.writeValueAsBytes(returned);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, json.length);
+            body.write(json);
+        }
+    }
+
+    private static Map<String, String> queryParameters(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                String[] parts = pair.split("=", 2);
+                parameters.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8),
+                        parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+            }
+        }
+        return parameters;
+    }
+
+    private String standInUrl(String company) {
+        return "http://127.0.0.1:" + standInServer.getAddress().getPort() + "/v0/postings/" + company + "?mode=json";
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopPostingsSource() {
+        if (standInServer != null) {
+            standInServer.stop(0);
+        }
+    }
+
+    @Test(description = "QA jobs in Istanbul exist and all meet the listing criteria")
+    @Story("Browserless job validation")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testQaJobsInIstanbulMeetCriteria() {
+        JobCriteria criteria = JobCriteria.qaJobsInIstanbul();
+        List<JobPosting> postings = client.fetchFiltered(criteria);
+        Assert.assertFalse(postings.isEmpty(), "No QA jobs in Istanbul found in postings feed!");
+
+        Map<Integer, List<String>> failures = criteria.rules().validate(postings);
+        Assert.assertTrue(failures.isEmpty(), "Postings violate criteria:\n" + JobRuleSet.describe(failures, postings));
+    }
+
+    @Test(description = "Wrongly tagged postings returned by the source fail the criteria")
+    @Story("Browserless job validation")
+    @Severity(SeverityLevel.NORMAL)
+    public void testMisfilteredSourceFailsCriteria() {
+        if (standInServer == null) {
+            throw new SkipException("Needs the stand-in postings source");
+        }
+        JobCriteria criteria = JobCriteria.qaJobsInIstanbul();
+        List<JobPosting> postings = new JobPostingsClient(standInUrl("misfiltered")).fetchFiltered(criteria);
+
+        Map<Integer, List<String>> failures = criteria.rules().validate(postings);
+        Assert.assertFalse(failures.isEmpty(), "Postings outside the QA Istanbul filter should violate the criteria");
+    }
+
+    @Test(description = "Criteria reject postings outside the QA Istanbul filter")
+    @Story("Browserless job validation")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCriteriaRejectMisfilteredPosting() {
+        JobCriteria criteria = JobCriteria.qaJobsInIstanbul();
+        JobPosting misfiltered = new JobPosting("Senior Backend Engineer", "Software Development", "Remote", null);
+
+        Assert.assertFalse(criteria.matchesFilter(misfiltered));
+        Assert.assertEquals(criteria.violations(misfiltered).size(), 3,
+                "Title, department and location should all be reported");
+    }
+
+    @Test(description = "Rule set validates every row of a large list and reports failures per row")
+    @Story("Full job list validation")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRuleSetReportsEveryFailingRow() {
+        List<JobPosting> postings = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            postings.add(new JobPosting("QA Engineer " + i, JobCriteria.QA_DEPARTMENT, JobCriteria.ISTANBUL_LOCATION, null));
+        }
+        postings.set(9, new JobPosting("Sales Manager", JobCriteria.QA_DEPARTMENT, JobCriteria.ISTANBUL_LOCATION, null));
+        postings.set(149, new JobPosting("QA Engineer 150", "Sales", "Remote", null));
+
+        Map<Integer, List<String>> failures = JobCriteria.qaJobsInIstanbul().rules().validate(postings);
+
+        Assert.assertEquals(failures.keySet(), Set.of(10, 150), "Only rows 10 and 150 should fail");
+        Assert.assertEquals(failures.get(10).size(), 1);
+        Assert.assertEquals(failures.get(150).size(), 2);
+    }
+}
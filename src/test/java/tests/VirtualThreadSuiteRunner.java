@@ -0,0 +1,38 @@
+package tests;
+
+import factory.VirtualThreadExecutorFactory;
+import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+import utils.ConfigReader;
+import utils.LoggerUtil;
+
+import java.util.List;
+
+/**
+ * VirtualThreadSuiteRunner - Runs TestNG suites with workers on virtual threads
+ *
+ * TestNG only accepts a custom executor factory programmatically, so the
+ * virtual-threads Maven profile launches suites through this runner instead
+ * of Surefire:
+ *
+ *   mvn test -Pvirtual-threads -Dthread.count=200 -Denvironment=docker
+ *
+ * Arguments: suite XML files (default: testng.xml)
+ */
+public class VirtualThreadSuiteRunner {
+
+    public static void main(String[] args) {
+        List<String> suites = args.length > 0 ? List.of(args) : List.of("testng.xml");
+        int threadCount = ConfigReader.getIntProperty("thread.count", 1);
+
+        TestNG testng = new TestNG();
+        testng.setExecutorFactory(new VirtualThreadExecutorFactory());
+        testng.setTestSuites(suites);
+        testng.setParallel(XmlSuite.ParallelMode.METHODS);
+        testng.setThreadCount(threadCount);
+
+        LoggerUtil.info("Running " + suites + " on virtual threads with thread count: " + threadCount);
+        testng.run();
+        System.exit(testng.getStatus());
+    }
+}